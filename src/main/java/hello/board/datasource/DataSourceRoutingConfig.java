@@ -0,0 +1,73 @@
+package hello.board.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Primary and replica connection pools behind one routing {@link DataSource}, enabled with {@code datasource.routing.enabled}.
+ * <p>
+ * Pools are bound from {@code datasource.routing.primary.*} and {@code datasource.routing.replica.*} (Hikari properties,
+ * e.g. {@code jdbc-url}, {@code username}, {@code maximum-pool-size}). Both are beans, so the actuator publishes
+ * {@code hikaricp.*} and {@code jdbc.connections.*} per pool.
+ * <p>
+ * The replica must serve the primary's data, kept in sync by the database's replication. The {@code replica}
+ * profile takes both URLs from {@code PRIMARY_URL} and {@code REPLICA_URL}, and points both at the local H2
+ * database when they are unset.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("datasource.routing.primary")
+    public HikariDataSource primaryDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.routing.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesWindow readYourWritesWindow(@Value("${datasource.routing.read-your-writes}") Duration window) {
+        return new ReadYourWritesWindow(window);
+    }
+
+    /**
+     * Applied to background tasks (e.g. count queries) so they follow the submitting request's pin.
+     */
+    @Bean
+    public TaskDecorator readYourWritesTaskDecorator(ReadYourWritesWindow readYourWritesWindow) {
+        return readYourWritesWindow::propagate;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReadYourWritesWindow readYourWritesWindow,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, readYourWritesWindow, meterRegistry)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package hello.board.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a session on the primary for a short window after its own write, so it never reads a replica
+ * that has not caught up yet (e.g. a comment that just got posted).
+ * <p>
+ * A request opens its scope with {@link #enter(Supplier)} and closes it with {@link #exit()}. When a read-write
+ * transaction commits inside the scope, {@link #recordCommit()} records the write for the session and pins the thread,
+ * so the rest of the same request reads from the primary too.
+ */
+public class ReadYourWritesWindow {
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    private final long windowNanos;
+    private final LongSupplier clock;
+
+    public ReadYourWritesWindow(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesWindow(Duration window, LongSupplier clock) {
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+    }
+
+    public void recordWrite(String sessionId) {
+        if (sessionId != null) {
+            lastWrites.put(sessionId, clock.getAsLong());
+        }
+    }
+
+    public void enter(Supplier<String> sessionId) {
+        final String id = sessionId.get();
+        scope.set(new Scope(sessionId, id != null && isWithinWindow(id)));
+    }
+
+    public void exit() {
+        scope.remove();
+    }
+
+    public boolean isPinned() {
+        Scope current = scope.get();
+        return current != null && current.pinned;
+    }
+
+    /**
+     * Called when a read-write transaction commits on this thread. Outside a request scope (e.g. a scheduled flush)
+     * there is no one to pin.
+     */
+    public void recordCommit() {
+        Scope current = scope.get();
+        if (current == null) {
+            return;
+        }
+
+        current.pinned = true;
+        recordWrite(current.sessionId.get());
+    }
+
+    /**
+     * Carries this thread's pin to a task that runs on another thread, e.g. a background count of the same request.
+     */
+    public Runnable propagate(Runnable task) {
+        final boolean pinnedHere = isPinned();
+
+        return () -> {
+            Scope previous = scope.get();
+            scope.set(new Scope(() -> null, pinnedHere));
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    scope.remove();
+                } else {
+                    scope.set(previous);
+                }
+            }
+        };
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.read-your-writes}")
+    public void prune() {
+        final long now = clock.getAsLong();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+    }
+
+    /* ################################################## */
+
+    private boolean isWithinWindow(String sessionId) {
+        Long writtenAt = lastWrites.get(sessionId);
+        return writtenAt != null && clock.getAsLong() - writtenAt <= windowNanos;
+    }
+
+    private static final class Scope {
+
+        private final Supplier<String> sessionId;
+        private boolean pinned;
+
+        private Scope(Supplier<String> sessionId, boolean pinned) {
+            this.sessionId = sessionId;
+            this.pinned = pinned;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package hello.board.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * The decision reads the current transaction's read-only flag, which is only set once the transaction has begun,
+ * so this must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ * Each decision is counted on {@code board.datasource.route}, tagged with the target and the reason.
+ * A read-write transaction reports its commit to the {@link ReadYourWritesWindow}, so reads after it stay on the primary.
+ */
+class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesWindow readYourWrites;
+
+    private final Counter writes;
+    private final Counter pinnedReads;
+    private final Counter replicaReads;
+
+    ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesWindow readYourWrites, MeterRegistry registry) {
+        this.readYourWrites = readYourWrites;
+        this.writes = routeCounter(registry, Route.PRIMARY, "write");
+        this.pinnedReads = routeCounter(registry, Route.PRIMARY, "read-your-writes");
+        this.replicaReads = routeCounter(registry, Route.REPLICA, "read-only");
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            recordCommit();
+            return Route.PRIMARY;
+        }
+
+        if (readYourWrites.isPinned()) {
+            pinnedReads.increment();
+            return Route.PRIMARY;
+        }
+
+        replicaReads.increment();
+        return Route.REPLICA;
+    }
+
+    /* ################################################## */
+
+    private void recordCommit() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.recordCommit();
+                }
+            });
+        }
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, Route route, String reason) {
+        return Counter.builder("board.datasource.route")
+                .tag("target", route.name().toLowerCase(Locale.ROOT))
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -8,11 +8,19 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_article_user_id", columnList = "user_id"),
+        @Index(name = "idx_article_views", columnList = "views, article_id"),
+        @Index(name = "idx_article_comment_count", columnList = "comment_count, article_id"),
+        @Index(name = "idx_article_created_at", columnList = "createdAt, article_id")
+})
 @Getter
-@ToString(of = {"id", "title", "content", "view"})
+@ToString(of = {"id", "title", "content", "view", "commentCount"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Article extends BaseEntity {
 
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "article_id", updatable = false)
@@ -24,19 +32,26 @@ public class Article extends BaseEntity {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User author;
 
-    @Column(name = "views", nullable = false)
+    @Column(name = "views", nullable = false, updatable = false)
     private long view = 0L;
 
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount = 0L;
+
     @OneToMany(mappedBy = "article", cascade = CascadeType.REMOVE)
     private List<Comment> comments = new ArrayList<>();
 
     private Article(String title, String content, User author) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
         this.author = author;
     }
 
@@ -53,15 +68,19 @@ public class Article extends BaseEntity {
     public void modifyContent(String content) {
         if (content != null) {
             this.content = content;
+            this.excerpt = excerptOf(content);
         }
     }
 
     void addComment(Comment comment) {
         comments.add(comment);
+        commentCount++;
     }
 
     void deleteComment(Comment comment) {
-        comments.remove(comment);
+        if (comments.remove(comment)) {
+            commentCount = Math.max(commentCount - 1, 0L);
+        }
     }
 
     public Article increaseView() {
@@ -69,6 +88,10 @@ public class Article extends BaseEntity {
         return this;
     }
 
+    private static String excerptOf(String content) {
+        return content.length() <= EXCERPT_LENGTH ? content : content.substring(0, EXCERPT_LENGTH);
+    }
+
     public boolean isNotAuthorId(Long userId) {
         return !Objects.equals(author.getId(), userId);
     }
@@ -0,0 +1,40 @@
+package hello.board.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Persisted HyperLogLog registers of the distinct viewers of one article.
+ * Kept out of the article row so that persisting sketches never touches articles.
+ */
+@Entity
+@Table(name = "article_viewer_sketch")
+@Getter
+@ToString(of = {"articleId"})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleViewerSketch extends BaseEntity {
+
+    public static final int MAX_REGISTERS = 1024;
+
+    @Id
+    @Column(name = "article_id", updatable = false)
+    private Long articleId;
+
+    @Column(nullable = false, length = MAX_REGISTERS)
+    private byte[] registers;
+
+    private ArticleViewerSketch(Long articleId, byte[] registers) {
+        this.articleId = articleId;
+        this.registers = registers;
+    }
+
+    public static ArticleViewerSketch create(Long articleId, byte[] registers) {
+        return new ArticleViewerSketch(articleId, registers);
+    }
+
+    public void modifyRegisters(byte[] registers) {
+        if (registers != null) {
+            this.registers = registers;
+        }
+    }
+}
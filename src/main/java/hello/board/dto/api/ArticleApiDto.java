@@ -1,19 +1,31 @@
 package hello.board.dto.api;
 
 import hello.board.domain.Article;
-import hello.board.dto.service.search.ArticleSearchDto;
+import hello.board.dto.service.ArticleExportDto;
+import hello.board.dto.service.ArticleServiceDto;
+import hello.board.dto.service.search.ArticleListDto;
 import hello.board.dto.service.search.ArticleSearchType;
+import hello.board.dto.service.search.ArticleSortType;
+import hello.board.dto.service.search.Snippet;
+import hello.board.dto.service.search.Suggestions;
+import hello.board.dto.service.search.TrendingWindow;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ArticleApiDto {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     @Getter
     @Setter
     public static final class SaveRequest {
@@ -46,6 +58,60 @@ public final class ArticleApiDto {
         private int page = 1;
 
         @Min(1)
+        @Max(MAX_PAGE_SIZE)
+        private int size = 10;
+
+        @NotNull
+        private String keyword = "";
+
+        @NotNull
+        private ArticleSearchType type = ArticleSearchType.TITLE_AND_CONTENT;
+
+        @NotNull
+        private ArticleSortType sort = ArticleSortType.LATEST;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate from;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate to;
+    }
+
+    @Getter
+    @Setter
+    public static final class PopularRequest {
+
+        @NotNull
+        private TrendingWindow window = TrendingWindow.DAY;
+
+        @Min(1)
+        @Max(50)
+        private int size = 10;
+    }
+
+    @Getter
+    @Setter
+    public static final class SuggestRequest {
+
+        @NotNull
+        @Size(max = 50)
+        private String q = "";
+
+        @Min(1)
+        @Max(20)
+        private int size = 5;
+    }
+
+    @Getter
+    @Setter
+    public static final class CursorRequest {
+
+        @NotNull
+        @Min(1)
+        private Long before;
+
+        @Min(1)
+        @Max(MAX_PAGE_SIZE)
         private int size = 10;
 
         @NotNull
@@ -62,22 +128,26 @@ public final class ArticleApiDto {
         private final String content;
         private final String author;
         private final Long view;
+        private final Long uniqueViewers;
         private final List<CommentApiDto.FindResponse> comments;
         private final LocalDateTime createdAt;
 
 
         @Builder
-        private FindResponse(String title, String content, String author, Long view, List<CommentApiDto.FindResponse> comments, LocalDateTime createdAt) {
+        private FindResponse(String title, String content, String author, Long view, Long uniqueViewers, List<CommentApiDto.FindResponse> comments, LocalDateTime createdAt) {
             this.title = title;
             this.content = content;
             this.author = author;
             this.view = view;
+            this.uniqueViewers = uniqueViewers;
             this.comments = comments;
             this.createdAt = createdAt;
         }
 
-        public static FindResponse of(Article article) {
-            List<CommentApiDto.FindResponse> comments = article.getComments().stream()
+        public static FindResponse of(ArticleServiceDto.LookUp param) {
+            Article article = param.getArticle();
+
+            List<CommentApiDto.FindResponse> comments = param.getComments().stream()
                     .map(CommentApiDto.FindResponse::of)
                     .toList();
 
@@ -85,7 +155,8 @@ public final class ArticleApiDto {
                     .title(article.getTitle())
                     .content(article.getContent())
                     .author(article.getAuthor().getName())
-                    .view(article.getView())
+                    .view(param.getViews())
+                    .uniqueViewers(param.getUniqueViewers())
                     .comments(comments)
                     .createdAt(article.getCreatedAt())
                     .build();
@@ -95,34 +166,85 @@ public final class ArticleApiDto {
     @Getter
     public static final class FindListResponse {
 
+        private final Long id;
         private final String title;
-        private final String content;
         private final String author;
         private final Long view;
         private final LocalDateTime createdAt;
         private final Long numComments;
+        private final Snippet snippet;
 
 
         @Builder
-        private FindListResponse(String title, String content, String author, Long view, LocalDateTime createdAt, Long numComments) {
+        private FindListResponse(Long id, String title, String author, Long view, LocalDateTime createdAt, Long numComments, Snippet snippet) {
+            this.id = id;
             this.title = title;
-            this.content = content;
             this.author = author;
             this.view = view;
             this.createdAt = createdAt;
             this.numComments = numComments;
+            this.snippet = snippet;
         }
 
-        public static FindListResponse of(ArticleSearchDto param) {
+        public static FindListResponse of(ArticleListDto param) {
+            return FindListResponse.builder()
+                    .id(param.getId())
+                    .title(param.getTitle())
+                    .author(param.getAuthor())
+                    .view(param.getView())
+                    .createdAt(param.getCreatedAt())
+                    .numComments(param.getNumComments())
+                    .snippet(param.getSnippet())
+                    .build();
+        }
+    }
 
-            Article article = param.getArticle();
+    @Getter
+    public static final class SuggestResponse {
 
-            return FindListResponse.builder()
-                    .title(article.getTitle())
-                    .content(article.getContent())
-                    .author(article.getAuthor().getName())
-                    .view(article.getView())
-                    .createdAt(article.getCreatedAt())
+        private final List<String> titles;
+        private final List<String> authors;
+
+        private SuggestResponse(List<String> titles, List<String> authors) {
+            this.titles = titles;
+            this.authors = authors;
+        }
+
+        public static SuggestResponse of(Suggestions suggestions) {
+            return new SuggestResponse(suggestions.getTitles(), suggestions.getAuthors());
+        }
+    }
+
+    @Getter
+    public static final class ExportResponse {
+
+        private final Long id;
+        private final String title;
+        private final String content;
+        private final String author;
+        private final LocalDateTime createdAt;
+        private final Long view;
+        private final Long numComments;
+
+        @Builder
+        private ExportResponse(Long id, String title, String content, String author, LocalDateTime createdAt, Long view, Long numComments) {
+            this.id = id;
+            this.title = title;
+            this.content = content;
+            this.author = author;
+            this.createdAt = createdAt;
+            this.view = view;
+            this.numComments = numComments;
+        }
+
+        public static ExportResponse of(ArticleExportDto param) {
+            return ExportResponse.builder()
+                    .id(param.getId())
+                    .title(param.getTitle())
+                    .content(param.getContent())
+                    .author(param.getAuthor())
+                    .createdAt(param.getCreatedAt())
+                    .view(param.getView())
                     .numComments(param.getNumComments())
                     .build();
         }
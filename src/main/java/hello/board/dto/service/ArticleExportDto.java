@@ -0,0 +1,19 @@
+package hello.board.dto.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public final class ArticleExportDto {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final Long view;
+    private final Long numComments;
+}
@@ -0,0 +1,18 @@
+package hello.board.dto.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public final class ArticleHeaderDto {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final Long view;
+    private final Long numComments;
+}
@@ -4,6 +4,7 @@ import hello.board.domain.Article;
 import hello.board.domain.Comment;
 import hello.board.domain.User;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -80,14 +81,78 @@ public final class ArticleServiceDto {
 
         private final Article article;
         private final Page<Comment> comments;
+        private final long views;
+        private final long uniqueViewers;
 
-        private LookUp(Article article, Page<Comment> comments) {
+        private LookUp(Article article, Page<Comment> comments, long views, long uniqueViewers) {
             this.article = article;
             this.comments = comments;
+            this.views = views;
+            this.uniqueViewers = uniqueViewers;
         }
 
         public static LookUp of(Article article, Page<Comment> comments) {
-            return new LookUp(article, comments);
+            return new LookUp(article, comments, article.getView(), 0L);
+        }
+
+        /**
+         * {@code views} is the persisted count plus views still buffered in memory,
+         * {@code uniqueViewers} an estimate of distinct viewers.
+         */
+        public static LookUp of(Article article, Page<Comment> comments, long views, long uniqueViewers) {
+            return new LookUp(article, comments, views, uniqueViewers);
+        }
+    }
+
+    /**
+     * The detail page header of a look-up that skipped the body and comments, with views counted the same way.
+     */
+    @Getter
+    public static final class Header {
+
+        private final ArticleHeaderDto article;
+        private final long views;
+        private final long uniqueViewers;
+
+        private Header(ArticleHeaderDto article, long views, long uniqueViewers) {
+            this.article = article;
+            this.views = views;
+            this.uniqueViewers = uniqueViewers;
+        }
+
+        public static Header of(ArticleHeaderDto article, long views, long uniqueViewers) {
+            return new Header(article, views, uniqueViewers);
+        }
+    }
+
+    /**
+     * Who is reading, for unique-viewer counting: the user when logged in, otherwise the session.
+     */
+    @Getter
+    @EqualsAndHashCode
+    public static final class Viewer {
+
+        private static final Viewer UNKNOWN = new Viewer(null);
+
+        private final String key;
+
+        private Viewer(String key) {
+            this.key = key;
+        }
+
+        public static Viewer of(Long userId, String sessionId) {
+            if (userId != null) {
+                return new Viewer("user:" + userId);
+            }
+            return sessionId == null ? UNKNOWN : new Viewer("session:" + sessionId);
+        }
+
+        public static Viewer unknown() {
+            return UNKNOWN;
+        }
+
+        public boolean isKnown() {
+            return key != null;
         }
     }
 }
@@ -0,0 +1,44 @@
+package hello.board.dto.service.search;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public final class ArticleListDto {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final Long view;
+    private final Long numComments;
+    private final String excerpt;
+    private final Snippet snippet;
+
+    public ArticleListDto(Long id, String title, String author, LocalDateTime createdAt, Long view, Long numComments) {
+        this(id, title, author, createdAt, view, numComments, null, null);
+    }
+
+    public ArticleListDto(Long id, String title, String author, LocalDateTime createdAt, Long view, Long numComments, String excerpt) {
+        this(id, title, author, createdAt, view, numComments, excerpt, null);
+    }
+
+    private ArticleListDto(Long id, String title, String author, LocalDateTime createdAt, Long view, Long numComments, String excerpt, Snippet snippet) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.createdAt = createdAt;
+        this.view = view;
+        this.numComments = (numComments == null) ? 0 : numComments;
+        this.excerpt = excerpt;
+        this.snippet = snippet;
+    }
+
+    /**
+     * The snippet replaces the text it was cut from, so cached result pages never hold article bodies.
+     */
+    public ArticleListDto withSnippet(Snippet snippet) {
+        return new ArticleListDto(id, title, author, createdAt, view, numComments, null, snippet);
+    }
+}
@@ -1,31 +1,100 @@
 package hello.board.dto.service.search;
 
 import lombok.*;
-import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Set;
 
 @Getter
-@ToString
-@EqualsAndHashCode(exclude = {"keyword", "type"})
+@ToString(exclude = {"query", "candidateIds", "authorIds", "minId", "maxId"})
+@EqualsAndHashCode(exclude = {"keyword", "type", "query"})
 public final class ArticleSearchCond {
 
     private final String keyword;
     private final ArticleSearchType type;
+    private final SearchQuery query;
+    private final ArticleSortType sort;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Set<Long> candidateIds;
+    private final Set<Long> authorIds;
+    private final Long minId;
+    private final Long maxId;
 
-    private ArticleSearchCond(String keyword, ArticleSearchType type) {
+    private ArticleSearchCond(String keyword, ArticleSearchType type, ArticleSortType sort, LocalDate from, LocalDate to,
+                              Set<Long> candidateIds, Set<Long> authorIds, Long minId, Long maxId) {
         this.keyword = keyword;
         this.type = type;
+        this.query = SearchQuery.parse(keyword);
+        this.sort = sort == null ? ArticleSortType.LATEST : sort;
+        this.from = from;
+        this.to = to;
+        this.candidateIds = candidateIds;
+        this.authorIds = authorIds;
+        this.minId = minId;
+        this.maxId = maxId;
     }
 
     public static ArticleSearchCond create(String keyword, ArticleSearchType type) {
-        return new ArticleSearchCond(keyword, type);
+        return create(keyword, type, ArticleSortType.LATEST);
+    }
+
+    public static ArticleSearchCond create(String keyword, ArticleSearchType type, ArticleSortType sort) {
+        return create(keyword, type, sort, null, null);
+    }
+
+    /**
+     * {@code from} and {@code to} are inclusive creation dates; either may be null.
+     */
+    public static ArticleSearchCond create(String keyword, ArticleSearchType type, ArticleSortType sort, LocalDate from, LocalDate to) {
+        return new ArticleSearchCond(keyword, type, sort, from, to, null, null, null, null);
     }
 
     public static ArticleSearchCond empty() {
-        return new ArticleSearchCond("", ArticleSearchType.TITLE_AND_CONTENT);
+        return create("", ArticleSearchType.TITLE_AND_CONTENT);
+    }
+
+    public ArticleSearchCond withCandidateIds(Set<Long> candidateIds) {
+        return new ArticleSearchCond(keyword, type, sort, from, to, Set.copyOf(candidateIds), authorIds, minId, maxId);
+    }
+
+    public ArticleSearchCond withAuthorIds(Set<Long> authorIds) {
+        return new ArticleSearchCond(keyword, type, sort, from, to, candidateIds, Set.copyOf(authorIds), minId, maxId);
+    }
+
+    /**
+     * The date range resolved to inclusive article id bounds; a null bound is open.
+     */
+    public ArticleSearchCond withIdRange(Long minId, Long maxId) {
+        return new ArticleSearchCond(keyword, type, sort, from, to, candidateIds, authorIds, minId, maxId);
     }
 
     public boolean isEmpty() {
-        return !StringUtils.hasText(keyword);
+        return query.isEmpty();
+    }
+
+    /**
+     * What the keyword is matched on, for cache keys: author searches match the trimmed keyword as written,
+     * so {@code "kim"} and {@code kim} differ; other types match the parsed query.
+     */
+    public Object matchKey() {
+        if (type == ArticleSearchType.AUTHOR) {
+            return keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        }
+        return query;
+    }
+
+    public boolean hasDateRange() {
+        return from != null || to != null;
+    }
+
+    public boolean isInIdRange(Long id) {
+        return (minId == null || id >= minId) && (maxId == null || id <= maxId);
+    }
+
+    public boolean isLatestFirst() {
+        return sort == ArticleSortType.LATEST;
     }
 
 }
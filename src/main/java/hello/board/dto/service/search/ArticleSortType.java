@@ -0,0 +1,18 @@
+package hello.board.dto.service.search;
+
+public enum ArticleSortType {
+    LATEST("최신순"),
+    OLDEST("오래된순"),
+    MOST_VIEWED("조회수순"),
+    MOST_COMMENTED("댓글순");
+
+    private final String kor;
+
+    ArticleSortType(String kor) {
+        this.kor = kor;
+    }
+
+    public String getKor() {
+        return kor;
+    }
+}
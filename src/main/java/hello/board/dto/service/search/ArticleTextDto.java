@@ -0,0 +1,13 @@
+package hello.board.dto.service.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public final class ArticleTextDto {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+}
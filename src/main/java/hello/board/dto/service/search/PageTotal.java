@@ -0,0 +1,41 @@
+package hello.board.dto.service.search;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The total of a result page, and whether it comes from a count query run for that page.
+ * The caller knows where the total came from, wherever the count itself runs.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PageTotal {
+
+    private final LongSupplier total;
+    private final boolean counted;
+    private final boolean onDemand;
+
+    public static PageTotal known(long total) {
+        return new PageTotal(() -> total, false, false);
+    }
+
+    public static PageTotal counted(long total) {
+        return new PageTotal(() -> total, true, false);
+    }
+
+    /**
+     * A count that runs only if the page asks for its total.
+     */
+    public static PageTotal countOnDemand(LongSupplier count) {
+        return new PageTotal(count, true, true);
+    }
+
+    public long get() {
+        return total.getAsLong();
+    }
+
+    public boolean isCounted(boolean resolved) {
+        return counted && (resolved || !onDemand);
+    }
+}
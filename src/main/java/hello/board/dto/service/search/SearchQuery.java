@@ -0,0 +1,152 @@
+package hello.board.dto.service.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A search keyword parsed into OR-ed clauses of AND-ed terms.
+ * <p>
+ * Syntax: terms separated by spaces or {@code AND} must all match, {@code OR} separates alternatives,
+ * {@code -term} excludes, and {@code "quoted phrase"} is matched as one term.
+ * A keyword without any of this syntax stays a single literal phrase, as before; so does a lone {@code AND} or {@code OR}.
+ * Terms are lower-cased; matching is case-insensitive.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class SearchQuery {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+
+    private final List<Clause> clauses;
+
+    private SearchQuery(List<Clause> clauses) {
+        this.clauses = List.copyOf(clauses);
+    }
+
+    public static SearchQuery parse(String keyword) {
+        final String trimmed = keyword == null ? "" : keyword.trim();
+
+        if (trimmed.isEmpty()) {
+            return new SearchQuery(List.of());
+        }
+
+        if (!hasOperators(trimmed)) {
+            return new SearchQuery(List.of(new Clause(List.of(normalize(trimmed)), List.of())));
+        }
+
+        List<Clause> clauses = new ArrayList<>();
+        List<String> included = new ArrayList<>();
+        List<String> excluded = new ArrayList<>();
+
+        int i = 0;
+        while (i < trimmed.length()) {
+            if (Character.isWhitespace(trimmed.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            final boolean exclude = trimmed.charAt(i) == '-' && i + 1 < trimmed.length() && !Character.isWhitespace(trimmed.charAt(i + 1));
+            final int start = exclude ? i + 1 : i;
+            final boolean quoted = trimmed.charAt(start) == '"';
+
+            int end = quoted ? trimmed.indexOf('"', start + 1) : indexOfWhitespace(trimmed, start);
+            if (end < 0) {
+                end = trimmed.length();
+            }
+
+            final String term = (quoted ? trimmed.substring(start + 1, end) : trimmed.substring(start, end)).trim();
+            i = quoted ? end + 1 : end;
+
+            if (!quoted && !exclude && term.equals(OR)) {
+                addClause(clauses, included, excluded);
+                included = new ArrayList<>();
+                excluded = new ArrayList<>();
+            } else if (!term.isEmpty() && (quoted || exclude || !term.equals(AND))) {
+                (exclude ? excluded : included).add(normalize(term));
+            }
+        }
+        addClause(clauses, included, excluded);
+
+        return new SearchQuery(clauses);
+    }
+
+    public boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+
+    /**
+     * True when some clause has no required term, so only exclusions restrict it and an index cannot narrow it.
+     */
+    public boolean hasUnboundedClause() {
+        return clauses.stream().anyMatch(clause -> clause.getIncluded().isEmpty());
+    }
+
+    /**
+     * The first required term, used to place a snippet. Empty when there is none.
+     */
+    public String firstTerm() {
+        return clauses.stream()
+                .flatMap(clause -> clause.getIncluded().stream())
+                .findFirst()
+                .orElse("");
+    }
+
+    /* ################################################## */
+
+    private static boolean hasOperators(String keyword) {
+        if (keyword.indexOf('"') >= 0) {
+            return true;
+        }
+
+        if (keyword.equals(AND) || keyword.equals(OR)) {
+            return false;
+        }
+
+        for (String word : keyword.split("\\s+")) {
+            if (word.equals(AND) || word.equals(OR) || (word.length() > 1 && word.charAt(0) == '-')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOfWhitespace(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void addClause(List<Clause> clauses, List<String> included, List<String> excluded) {
+        if (!included.isEmpty() || !excluded.isEmpty()) {
+            clauses.add(new Clause(included, excluded));
+        }
+    }
+
+    private static String normalize(String term) {
+        return term.toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    public static final class Clause {
+
+        private final List<String> included;
+        private final List<String> excluded;
+
+        private Clause(List<String> included, List<String> excluded) {
+            this.included = List.copyOf(included);
+            this.excluded = List.copyOf(excluded);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package hello.board.dto.service.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class Snippet {
+
+    private final String before;
+    private final String match;
+    private final String after;
+
+    public static Snippet lead(String text) {
+        return new Snippet(text, "", "");
+    }
+
+    public boolean hasMatch() {
+        return !match.isEmpty();
+    }
+}
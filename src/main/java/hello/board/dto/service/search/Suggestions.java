@@ -0,0 +1,22 @@
+package hello.board.dto.service.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class Suggestions {
+
+    private final List<String> titles;
+    private final List<String> authors;
+
+    public static Suggestions empty() {
+        return new Suggestions(List.of(), List.of());
+    }
+}
@@ -0,0 +1,25 @@
+package hello.board.dto.service.search;
+
+import java.time.Duration;
+
+public enum TrendingWindow {
+    HOUR("1시간", Duration.ofHours(1)),
+    DAY("1일", Duration.ofDays(1)),
+    WEEK("1주", Duration.ofDays(7));
+
+    private final String kor;
+    private final Duration duration;
+
+    TrendingWindow(String kor, Duration duration) {
+        this.kor = kor;
+        this.duration = duration;
+    }
+
+    public String getKor() {
+        return kor;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+}
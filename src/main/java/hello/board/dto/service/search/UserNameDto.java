@@ -0,0 +1,12 @@
+package hello.board.dto.service.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public final class UserNameDto {
+
+    private final Long id;
+    private final String name;
+}
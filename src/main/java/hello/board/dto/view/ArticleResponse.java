@@ -2,8 +2,10 @@ package hello.board.dto.view;
 
 import hello.board.domain.Article;
 import hello.board.domain.Comment;
+import hello.board.dto.service.ArticleHeaderDto;
 import hello.board.dto.service.ArticleServiceDto;
-import hello.board.dto.service.search.ArticleSearchDto;
+import hello.board.dto.service.search.ArticleListDto;
+import hello.board.dto.service.search.Snippet;
 import lombok.*;
 import org.springframework.data.domain.Page;
 
@@ -22,16 +24,20 @@ public final class ArticleResponse {
         private final String author;
         private final LocalDateTime createdAt;
         private final Long view;
+        private final Long uniqueViewers;
+        private final Long numComments;
         private final Page<CommentViewResponse> comments;
 
         @Builder
-        private View(Long id, String title, String content, String author, LocalDateTime createdAt, Long view, Page<CommentViewResponse> comments) {
+        private View(Long id, String title, String content, String author, LocalDateTime createdAt, Long view, Long uniqueViewers, Long numComments, Page<CommentViewResponse> comments) {
             this.id = id;
             this.title = title;
             this.content = content;
             this.author = author;
             this.createdAt = createdAt;
             this.view = view;
+            this.uniqueViewers = uniqueViewers;
+            this.numComments = numComments;
             this.comments = comments;
         }
 
@@ -46,10 +52,30 @@ public final class ArticleResponse {
                     .content(article.getContent())
                     .author(article.getAuthor().getName())
                     .createdAt(article.getCreatedAt())
-                    .view(article.getView())
+                    .view(param.getViews())
+                    .uniqueViewers(param.getUniqueViewers())
+                    .numComments(comments.getTotalElements())
                     .comments(comments.map(CommentViewResponse::of))
                     .build();
         }
+
+        /**
+         * Header fields only: the body and comments come from already rendered fragments.
+         */
+        public static View of(ArticleServiceDto.Header param) {
+
+            ArticleHeaderDto article = param.getArticle();
+
+            return View.builder()
+                    .id(article.getId())
+                    .title(article.getTitle())
+                    .author(article.getAuthor())
+                    .createdAt(article.getCreatedAt())
+                    .view(param.getViews())
+                    .uniqueViewers(param.getUniqueViewers())
+                    .numComments(article.getNumComments())
+                    .build();
+        }
     }
 
     @Getter
@@ -62,27 +88,28 @@ public final class ArticleResponse {
         private final LocalDateTime createdAt;
         private final Long view;
         private final Long numComments;
+        private final Snippet snippet;
 
         @Builder
-        private ListView(Long id, String title, String author, LocalDateTime createdAt, Long view, Long numComments) {
+        private ListView(Long id, String title, String author, LocalDateTime createdAt, Long view, Long numComments, Snippet snippet) {
             this.id = id;
             this.title = title;
             this.author = author;
             this.createdAt = createdAt;
             this.view = view;
             this.numComments = numComments;
+            this.snippet = snippet;
         }
 
-        public static ListView from(ArticleSearchDto param) {
-            Article article = param.getArticle();
-
+        public static ListView from(ArticleListDto param) {
             return ListView.builder()
-                    .id(article.getId())
-                    .title(article.getTitle())
-                    .author(article.getAuthor().getName())
-                    .createdAt(article.getCreatedAt())
-                    .view(article.getView())
+                    .id(param.getId())
+                    .title(param.getTitle())
+                    .author(param.getAuthor())
+                    .createdAt(param.getCreatedAt())
+                    .view(param.getView())
                     .numComments(param.getNumComments())
+                    .snippet(param.getSnippet())
                     .build();
         }
     }
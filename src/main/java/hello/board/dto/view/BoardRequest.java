@@ -1,12 +1,17 @@
 package hello.board.dto.view;
 
 import hello.board.dto.service.search.ArticleSearchType;
+import hello.board.dto.service.search.ArticleSortType;
+import hello.board.dto.service.search.TrendingWindow;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class BoardRequest {
@@ -23,6 +28,23 @@ public final class BoardRequest {
 
         @NotNull
         private ArticleSearchType type = ArticleSearchType.TITLE_AND_CONTENT;
+
+        @NotNull
+        private ArticleSortType sort = ArticleSortType.LATEST;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate from;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate to;
+    }
+
+    @Getter
+    @Setter
+    public static class PopularListRequest {
+
+        @NotNull
+        private TrendingWindow window = TrendingWindow.DAY;
     }
 
     @Getter
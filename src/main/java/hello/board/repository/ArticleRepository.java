@@ -1,16 +1,25 @@
 package hello.board.repository;
 
 import hello.board.domain.Article;
-import hello.board.dto.service.ArticleCommentFlatDto;
+import hello.board.dto.service.ArticleExportDto;
+import hello.board.dto.service.ArticleHeaderDto;
+import hello.board.dto.service.search.ArticleTextDto;
 import hello.board.repository.custom.ArticleSearchRepository;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleSearchRepository {
 
@@ -19,6 +28,10 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Article
     @EntityGraph(attributePaths = {"author"})
     Optional<Article> findById(@NonNull Long id);
 
+    /**
+     * Loaded read-only: a look-up never writes the article back, views go through {@link #increaseView(Long)} or {@link #addViews(long, Collection)}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("""
             select a from Article a
             left join fetch a.author
@@ -28,13 +41,89 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Article
     """)
     Optional<Article> findWithComments(Long id);
 
+    /**
+     * The article with its author only, read-only; comments are paged separately.
+     */
+    @EntityGraph(attributePaths = {"author"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<Article> findDetailById(Long id);
+
+    /**
+     * Only what the detail page header shows, for a page whose body and comments are already rendered.
+     */
     @Query("""
-            select new hello.board.dto.service.ArticleCommentFlatDto(a, c) from Article a
-            left join fetch a.author
-            left join a.comments c
-            left join fetch c.author
+            select new hello.board.dto.service.ArticleHeaderDto(a.id, a.title, u.name, a.createdAt, a.view, a.commentCount) from Article a
+            join a.author u
+            where a.id = :id
+    """)
+    Optional<ArticleHeaderDto> findHeaderById(Long id);
+
+    @Query("""
+            select new hello.board.dto.service.search.ArticleTextDto(a.id, a.title, a.content) from Article a
+            where a.id > :id
+            order by a.id
+    """)
+    List<ArticleTextDto> findTextsAfter(Long id, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            update Article a
+            set a.commentCount = a.commentCount + :delta
+            where a.id = :id and a.commentCount + :delta >= 0
+    """)
+    int addCommentCount(Long id, long delta);
+
+    @Modifying
+    @Query("""
+            update Article a
+            set a.view = a.view + 1
             where a.id = :id
     """)
-    Page<ArticleCommentFlatDto> findWithComments(Long id, Pageable pageable);
+    int increaseView(Long id);
+
+    @Modifying
+    @Query("""
+            update Article a
+            set a.view = a.view + :delta
+            where a.id in :ids
+    """)
+    int addViews(long delta, Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Article a
+            set a.commentCount = (select count(c) from Comment c where c.article.id = a.id)
+            where a.id > :from and a.id <= :to
+    """)
+    int backfillCommentCounts(Long from, Long to);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Article a
+            set a.excerpt = substring(a.content, 1, 200)
+            where a.excerpt is null and a.id > :from and a.id <= :to
+    """)
+    int backfillExcerpts(Long from, Long to);
+
+    @Query("select coalesce(max(a.id), 0) from Article a")
+    Long findMaxId();
+
+    /**
+     * Whole board in id order for export. Must be consumed inside a transaction and closed.
+     * Rows are DTOs, so nothing accumulates in the persistence context while streaming.
+     * On MySQL the fetch size only takes effect with {@code useCursorFetch=true} on the JDBC URL.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new hello.board.dto.service.ArticleExportDto(a.id, a.title, a.content, u.name, a.createdAt, a.view, a.commentCount) from Article a
+            join a.author u
+            order by a.id
+    """)
+    Stream<ArticleExportDto> streamForExport();
 
 }
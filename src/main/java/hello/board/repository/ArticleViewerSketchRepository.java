@@ -0,0 +1,25 @@
+package hello.board.repository;
+
+import hello.board.domain.ArticleViewerSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArticleViewerSketchRepository extends JpaRepository<ArticleViewerSketch, Long> {
+
+    /**
+     * Locked in id order, so two persists over overlapping articles cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ArticleViewerSketch s where s.articleId in :articleIds order by s.articleId")
+    List<ArticleViewerSketch> findAllForUpdate(Collection<Long> articleIds);
+
+    @Modifying
+    @Query("delete from ArticleViewerSketch s where s.articleId = :articleId")
+    int deleteByArticleId(Long articleId);
+}
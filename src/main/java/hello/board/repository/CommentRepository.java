@@ -1,12 +1,16 @@
 package hello.board.repository;
 
 import hello.board.domain.Comment;
+import hello.board.dto.service.search.CommentCountDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -18,7 +22,21 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @EntityGraph(attributePaths = {"author"})
     Page<Comment> findByArticleId(Long articleId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"author"})
+    List<Comment> findListByArticleId(Long articleId, Pageable pageable);
+
+    long countByArticleId(Long articleId);
+
+    @EntityGraph(attributePaths = {"author"})
+    Slice<Comment> findSliceByArticleId(Long articleId, Pageable pageable);
+
     @EntityGraph(attributePaths = {"article", "author"})
     Optional<Comment> findWithArticleById(Long id);
 
+    @Query("""
+            select new hello.board.dto.service.search.CommentCountDto(c.article.id, count(c)) from Comment c
+            group by c.article.id
+    """)
+    List<CommentCountDto> countGroupByArticleId();
+
 }
@@ -1,11 +1,22 @@
 package hello.board.repository;
 
 import hello.board.domain.User;
+import hello.board.dto.service.search.UserNameDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("""
+            select new hello.board.dto.service.search.UserNameDto(u.id, u.name) from User u
+            where u.id > :id
+            order by u.id
+    """)
+    List<UserNameDto> findNamesAfter(Long id, Pageable pageable);
 }
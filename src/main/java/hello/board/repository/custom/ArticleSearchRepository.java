@@ -1,12 +1,28 @@
 package hello.board.repository.custom;
 
+import hello.board.dto.service.search.ArticleListDto;
 import hello.board.dto.service.search.ArticleSearchCond;
-import hello.board.dto.service.search.ArticleSearchDto;
+import hello.board.dto.service.search.PageTotal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface ArticleSearchRepository {
-    Page<ArticleSearchDto> search(Pageable pageable);
-    Page<ArticleSearchDto> search(ArticleSearchCond cond, Pageable pageable);
+    Slice<ArticleListDto> searchBefore(Long before, int size);
+    Slice<ArticleListDto> searchBefore(ArticleSearchCond cond, Long before, int size);
+    Page<ArticleListDto> searchList(Pageable pageable);
+    Page<ArticleListDto> searchList(Pageable pageable, PageTotal total);
+    Page<ArticleListDto> searchList(ArticleSearchCond cond, Pageable pageable);
+    Page<ArticleListDto> searchList(ArticleSearchCond cond, Pageable pageable, PageTotal total);
+    long countList(ArticleSearchCond cond);
+    Slice<ArticleListDto> sliceList(Pageable pageable);
+    Slice<ArticleListDto> sliceList(ArticleSearchCond cond, Pageable pageable);
+    List<ArticleListDto> findListByIds(Collection<Long> ids);
+    Long findFirstIdCreatedFrom(LocalDateTime from);
+    Long findLastIdCreatedBefore(LocalDateTime before);
 
 }
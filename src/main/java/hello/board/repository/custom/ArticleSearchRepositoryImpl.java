@@ -1,119 +1,197 @@
 package hello.board.repository.custom;
 
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Wildcard;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import hello.board.domain.Article;
+import hello.board.dto.service.search.ArticleListDto;
 import hello.board.dto.service.search.ArticleSearchCond;
-import hello.board.dto.service.search.ArticleSearchDto;
 import hello.board.dto.service.search.ArticleSearchType;
-import hello.board.dto.service.search.CommentCountDto;
+import hello.board.dto.service.search.PageTotal;
+import hello.board.dto.service.search.SearchQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
-import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
+import java.util.function.Function;
 
 import static com.querydsl.core.types.Projections.constructor;
 import static hello.board.domain.QArticle.article;
-import static hello.board.domain.QComment.comment;
 import static hello.board.domain.QUser.user;
 
 public class ArticleSearchRepositoryImpl implements ArticleSearchRepository {
 
     private final JPAQueryFactory query;
+    private final SearchMetrics metrics;
 
-    public ArticleSearchRepositoryImpl(EntityManager em) {
+    public ArticleSearchRepositoryImpl(EntityManager em, ObjectProvider<MeterRegistry> meterRegistry) {
         this.query = new JPAQueryFactory(em);
+        this.metrics = new SearchMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
     }
 
     @Override
-    public Page<ArticleSearchDto> search(Pageable pageable) {
+    public Slice<ArticleListDto> searchBefore(Long before, int size) {
+        SearchMetrics.ContentSample sample = metrics.content(null, SearchMetrics.CURSOR);
 
-        List<Article> articles = query
-                .select(article)
-                .from(article)
-                .leftJoin(article.author, user).fetchJoin()
+        List<ArticleListDto> content = sample.time(() -> selectArticleListDto()
+                .where(idLessThan(before))
                 .orderBy(article.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .limit(size + 1L)
+                .fetch());
+
+        return recorded(sample, toSlice(content, PageRequest.ofSize(size)));
+    }
 
-        List<ArticleSearchDto> content = getArticleSearchDtos(articles);
+    @Override
+    public Slice<ArticleListDto> searchBefore(ArticleSearchCond cond, Long before, int size) {
+        SearchMetrics.ContentSample sample = metrics.content(cond, SearchMetrics.CURSOR);
 
+        List<ArticleListDto> content = sample.time(() -> selectArticleListDto()
+                .where(idLessThan(before), idInRange(cond), candidateIdsIn(cond), containsKeyword(cond))
+                .orderBy(article.id.desc())
+                .limit(size + 1L)
+                .fetch());
+
+        return recorded(sample, toSlice(content, PageRequest.ofSize(size)));
+    }
+
+    @Override
+    public Page<ArticleListDto> searchList(Pageable pageable) {
         JPAQuery<Long> countQuery = getSimpleCountQuery();
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return searchList(pageable, PageTotal.countOnDemand(() -> metrics.count(null, countQuery::fetchOne)));
     }
 
     @Override
-    public Page<ArticleSearchDto> search(ArticleSearchCond cond, Pageable pageable) {
+    public Page<ArticleListDto> searchList(Pageable pageable, PageTotal total) {
+        SearchMetrics.ContentSample sample = metrics.content(null, pageable);
 
-        List<Article> articles = query
-                .select(article)
-                .from(article)
-                .leftJoin(article.author, user).fetchJoin()
-                .where(containsKeyword(cond))
+        List<ArticleListDto> content = sample.time(() -> selectArticleListDto()
                 .orderBy(article.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetch();
+                .fetch());
+
+        return recorded(sample, PageableExecutionUtils.getPage(content, pageable, sample.tracking(total)));
+    }
+
+    @Override
+    public Page<ArticleListDto> searchList(ArticleSearchCond cond, Pageable pageable) {
+        return searchList(cond, pageable, PageTotal.countOnDemand(() -> countList(cond)));
+    }
 
-        List<ArticleSearchDto> content = getArticleSearchDtos(articles);
+    @Override
+    public Page<ArticleListDto> searchList(ArticleSearchCond cond, Pageable pageable, PageTotal total) {
+        SearchMetrics.ContentSample sample = metrics.content(cond, pageable);
 
-        JPAQuery<Long> countQuery = getConditionCountQuery(cond);
+        List<ArticleListDto> content = sample.time(() -> selectArticleListDto()
+                .where(idInRange(cond), candidateIdsIn(cond), containsKeyword(cond))
+                .orderBy(orderOf(cond))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch());
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return recorded(sample, PageableExecutionUtils.getPage(content, pageable, sample.tracking(total)));
     }
 
-    private List<ArticleSearchDto> getArticleSearchDtos(List<Article> articles) {
-        List<CommentCountDto> commentCounts = query
-                .select(constructor(CommentCountDto.class,
-                        comment.article.id,
-                        Wildcard.count
-                ))
-                .from(comment)
-                .where(comment.article.in(articles))
-                .groupBy(comment.article.id)
-                .orderBy(comment.article.id.desc())
-                .fetch();
+    @Override
+    public long countList(ArticleSearchCond cond) {
+        return metrics.count(cond, () -> {
+            Long count = getConditionCountQuery(cond).fetchOne();
 
-        return mergeIntoArticleSearchDtos(articles, commentCounts);
+            return count == null ? 0L : count;
+        });
     }
 
-    private static List<ArticleSearchDto> mergeIntoArticleSearchDtos(List<Article> articles, List<CommentCountDto> commentCounts) {
+    @Override
+    public Slice<ArticleListDto> sliceList(Pageable pageable) {
+        SearchMetrics.ContentSample sample = metrics.content(null, pageable);
 
-        final List<ArticleSearchDto> content = new ArrayList<>();
+        List<ArticleListDto> content = sample.time(() -> selectArticleListDto()
+                .orderBy(article.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch());
 
-        int idxArticles = 0, idxCounts = 0;
+        return recorded(sample, toSlice(content, pageable));
+    }
 
-        while (idxArticles < articles.size() && idxCounts < commentCounts.size()) {
+    @Override
+    public Slice<ArticleListDto> sliceList(ArticleSearchCond cond, Pageable pageable) {
+        SearchMetrics.ContentSample sample = metrics.content(cond, pageable);
 
-            final Article atcle = articles.get(idxArticles++);
-            final CommentCountDto commentCountDto = commentCounts.get(idxCounts);
+        List<ArticleListDto> content = sample.time(() -> selectArticleListDto()
+                .where(idInRange(cond), candidateIdsIn(cond), containsKeyword(cond))
+                .orderBy(orderOf(cond))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch());
 
-            if (doTheyPointSameArticle(atcle, commentCountDto)) {
-                content.add(new ArticleSearchDto(atcle, commentCountDto.getCount()));
-                idxCounts++;
-            } else {
-                content.add(new ArticleSearchDto(atcle, 0L));
-            }
-        }
+        return recorded(sample, toSlice(content, pageable));
+    }
 
-        while (idxArticles < articles.size()) {
-            content.add(new ArticleSearchDto(articles.get(idxArticles++), 0L));
-        }
+    @Override
+    public List<ArticleListDto> findListByIds(Collection<Long> ids) {
+        return selectArticleListDto()
+                .where(article.id.in(ids))
+                .fetch();
+    }
 
-        return content;
+    @Override
+    public Long findFirstIdCreatedFrom(LocalDateTime from) {
+        return query
+                .select(article.id)
+                .from(article)
+                .where(article.createdAt.goe(from))
+                .orderBy(article.createdAt.asc(), article.id.asc())
+                .fetchFirst();
     }
 
-    private static boolean doTheyPointSameArticle(Article atc, CommentCountDto commentCountDto) {
-        return Objects.equals(atc.getId(), commentCountDto.getArticleId());
+    @Override
+    public Long findLastIdCreatedBefore(LocalDateTime before) {
+        return query
+                .select(article.id)
+                .from(article)
+                .where(article.createdAt.lt(before))
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .fetchFirst();
+    }
+
+    private JPAQuery<ArticleListDto> selectArticleListDto() {
+        return query
+                .select(constructor(ArticleListDto.class,
+                        article.id,
+                        article.title,
+                        user.name,
+                        article.createdAt,
+                        article.view,
+                        article.commentCount,
+                        article.excerpt
+                ))
+                .from(article)
+                .join(article.author, user);
+    }
+
+    private static <S extends Slice<?>> S recorded(SearchMetrics.ContentSample sample, S result) {
+        sample.record(result.getNumberOfElements());
+        return result;
+    }
+
+    private static <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+        final boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
     }
 
     private JPAQuery<Long> getSimpleCountQuery() {
@@ -125,29 +203,81 @@ public class ArticleSearchRepositoryImpl implements ArticleSearchRepository {
     private JPAQuery<Long> getConditionCountQuery(ArticleSearchCond cond) {
         JPAQuery<Long> simpleCountQuery = getSimpleCountQuery();
 
-        if (cond.getType() == ArticleSearchType.AUTHOR) {
+        if (cond.getType() == ArticleSearchType.AUTHOR && cond.getAuthorIds() == null) {
             simpleCountQuery.join(article.author, user);
         }
 
         return simpleCountQuery
-                .where(containsKeyword(cond));
+                .where(idInRange(cond), candidateIdsIn(cond), containsKeyword(cond));
     }
 
-    private BooleanExpression containsKeyword(ArticleSearchCond cond) {
+    private static OrderSpecifier<?>[] orderOf(ArticleSearchCond cond) {
+        return switch (cond.getSort()) {
+            case LATEST -> new OrderSpecifier<?>[]{article.id.desc()};
+            case OLDEST -> new OrderSpecifier<?>[]{article.id.asc()};
+            case MOST_VIEWED -> new OrderSpecifier<?>[]{article.view.desc(), article.id.desc()};
+            case MOST_COMMENTED -> new OrderSpecifier<?>[]{article.commentCount.desc(), article.id.desc()};
+        };
+    }
 
-        String keyword = cond.getKeyword().trim();
+    private static BooleanExpression idLessThan(Long before) {
+        return before == null ? null : article.id.lt(before);
+    }
+
+    private static BooleanExpression idInRange(ArticleSearchCond cond) {
+        BooleanExpression lower = cond.getMinId() == null ? null : article.id.goe(cond.getMinId());
+        BooleanExpression upper = cond.getMaxId() == null ? null : article.id.loe(cond.getMaxId());
+
+        return lower == null ? upper : lower.and(upper);
+    }
+
+    private static BooleanExpression candidateIdsIn(ArticleSearchCond cond) {
+        return cond.getCandidateIds() == null ? null : article.id.in(cond.getCandidateIds());
+    }
+
+    private BooleanExpression containsKeyword(ArticleSearchCond cond) {
 
-        if (!StringUtils.hasText(keyword)) {
+        if (cond.isEmpty()) {
             return null;
         }
 
         return switch (cond.getType()) {
-            case TITLE -> article.title.containsIgnoreCase(keyword);
-            case CONTENT -> article.content.containsIgnoreCase(keyword);
-            case TITLE_AND_CONTENT -> article.title.containsIgnoreCase(keyword)
-                    .or(article.content.containsIgnoreCase(keyword));
-            case AUTHOR -> article.author.name.containsIgnoreCase(keyword);
+            case TITLE -> matches(cond.getQuery(), article.title::containsIgnoreCase);
+            case CONTENT -> matches(cond.getQuery(), article.content::containsIgnoreCase);
+            case TITLE_AND_CONTENT -> matches(cond.getQuery(), term -> article.title.containsIgnoreCase(term)
+                    .or(article.content.containsIgnoreCase(term)));
+            case AUTHOR -> cond.getAuthorIds() == null
+                    ? article.author.name.containsIgnoreCase(cond.getKeyword().trim())
+                    : article.author.id.in(cond.getAuthorIds());
         };
     }
 
+    /**
+     * Clauses are OR-ed. Within a clause the longest (most selective) terms come first, exclusions last.
+     */
+    private static BooleanExpression matches(SearchQuery query, Function<String, BooleanExpression> contains) {
+        BooleanExpression any = null;
+
+        for (SearchQuery.Clause clause : query.getClauses()) {
+            BooleanExpression all = null;
+
+            for (String term : bySelectivity(clause.getIncluded())) {
+                all = all == null ? contains.apply(term) : all.and(contains.apply(term));
+            }
+            for (String term : clause.getExcluded()) {
+                all = all == null ? contains.apply(term).not() : all.and(contains.apply(term).not());
+            }
+
+            any = any == null ? all : any.or(all);
+        }
+
+        return any;
+    }
+
+    private static List<String> bySelectivity(List<String> terms) {
+        return terms.stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+    }
+
 }
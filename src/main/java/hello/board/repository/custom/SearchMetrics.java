@@ -0,0 +1,141 @@
+package hello.board.repository.custom;
+
+import hello.board.dto.service.search.ArticleSearchCond;
+import hello.board.dto.service.search.PageTotal;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Search query metrics, tagged by search type and page depth so a slow type or deep paging shows up on its own.
+ * <ul>
+ *     <li>{@code board.search.content}: content query time, also tagged with whether the page waited for a count query</li>
+ *     <li>{@code board.search.count}: count query time, measured where the count actually runs</li>
+ *     <li>{@code board.search.rows}: rows returned by the content query</li>
+ * </ul>
+ * Timers publish SLO buckets so latency can be read as histograms on /actuator/prometheus.
+ */
+class SearchMetrics {
+
+    static final String CURSOR = "cursor";
+
+    private static final String NONE = "NONE";
+
+    private static final Duration[] LATENCY_SLOS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1)
+    };
+    private static final double[] ROW_SLOS = {0, 1, 10, 20, 50, 100};
+
+    private final MeterRegistry registry;
+
+    SearchMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    ContentSample content(ArticleSearchCond cond, Pageable pageable) {
+        return new ContentSample(typeOf(cond), depthOf(pageable));
+    }
+
+    ContentSample content(ArticleSearchCond cond, String depth) {
+        return new ContentSample(typeOf(cond), depth);
+    }
+
+    long count(ArticleSearchCond cond, LongSupplier query) {
+        final long start = System.nanoTime();
+        try {
+            return query.getAsLong();
+        } finally {
+            Timer.builder("board.search.count")
+                    .tag("type", typeOf(cond))
+                    .serviceLevelObjectives(LATENCY_SLOS)
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String typeOf(ArticleSearchCond cond) {
+        return cond == null || cond.isEmpty() ? NONE : cond.getType().name();
+    }
+
+    private static String depthOf(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "all";
+        }
+
+        final int page = pageable.getPageNumber() + 1;
+
+        if (page == 1) {
+            return "1";
+        } else if (page <= 10) {
+            return "2-10";
+        } else if (page <= 100) {
+            return "11-100";
+        }
+        return "101+";
+    }
+
+    /**
+     * One content query. Tags are only known once the page has decided whether it needs its total,
+     * so the elapsed time is kept and recorded at the end.
+     */
+    class ContentSample {
+
+        private final String type;
+        private final String depth;
+
+        private long elapsedNanos;
+        private PageTotal total;
+        private boolean resolved;
+
+        private ContentSample(String type, String depth) {
+            this.type = type;
+            this.depth = depth;
+        }
+
+        <T> List<T> time(Supplier<List<T>> query) {
+            final long start = System.nanoTime();
+            try {
+                return query.get();
+            } finally {
+                elapsedNanos = System.nanoTime() - start;
+            }
+        }
+
+        /**
+         * The page's own total, which tells whether the page waited for a count query.
+         */
+        LongSupplier tracking(PageTotal total) {
+            this.total = total;
+            return () -> {
+                final long value = total.get();
+                resolved = true;
+                return value;
+            };
+        }
+
+        void record(int rows) {
+            Timer.builder("board.search.content")
+                    .tag("type", type)
+                    .tag("depth", depth)
+                    .tag("counted", String.valueOf(total != null && total.isCounted(resolved)))
+                    .serviceLevelObjectives(LATENCY_SLOS)
+                    .register(registry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            DistributionSummary.builder("board.search.rows")
+                    .tag("type", type)
+                    .tag("depth", depth)
+                    .serviceLevelObjectives(ROW_SLOS)
+                    .register(registry)
+                    .record(rows);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package hello.board.service.cache;
+
+import hello.board.service.event.ArticleEvent;
+import hello.board.service.event.CommentEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Rendered HTML of the article detail page parts that are the same for every reader.
+ * <p>
+ * Entries are keyed by article id, fragment, comment page and the article's version. Any change to the
+ * article or its comments bumps the version, so entries rendered before the change are never served again.
+ * Callers read {@link #version(Long)} before loading the data they render, so a change that commits while
+ * rendering is not stored under the new version.
+ * <p>
+ * At most {@code max-entries} fragments are kept, least recently used first out.
+ */
+@Component
+public class ArticleFragmentCache {
+
+    public enum Fragment {
+        BODY, COMMENTS
+    }
+
+    private final Map<FragmentKey, Entry> entries;
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ArticleFragmentCache(@Value("${view.board.fragment-cache.ttl}") Duration ttl,
+                                @Value("${view.board.fragment-cache.max-entries}") int maxEntries,
+                                MeterRegistry meterRegistry) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FragmentKey, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.ttlNanos = ttl.toNanos();
+
+        this.hits = Counter.builder("board.fragment.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("board.fragment.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        Gauge.builder("board.fragment.cache.size", this, ArticleFragmentCache::size)
+                .register(meterRegistry);
+    }
+
+    public long version(Long articleId) {
+        AtomicLong version = versions.get(articleId);
+        return version == null ? 0L : version.get();
+    }
+
+    public Optional<String> find(Long articleId, long version, Fragment fragment, Pageable comments) {
+        Entry entry = lookup(keyOf(articleId, version, fragment, comments), System.nanoTime());
+
+        if (entry != null) {
+            hits.increment();
+            return Optional.of(entry.html());
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public String get(Long articleId, long version, Fragment fragment, Pageable comments, Supplier<String> renderer) {
+        return find(articleId, version, fragment, comments)
+                .orElseGet(() -> render(articleId, version, fragment, comments, renderer));
+    }
+
+    /**
+     * Renders and stores a fragment, unless the article changed since {@code version} was read.
+     */
+    public String render(Long articleId, long version, Fragment fragment, Pageable comments, Supplier<String> renderer) {
+        final FragmentKey key = keyOf(articleId, version, fragment, comments);
+        final String html = renderer.get();
+
+        if (ttlNanos > 0 && version == version(articleId)) {
+            Entry rendered = new Entry(html, System.nanoTime() + ttlNanos);
+            store(key, rendered);
+
+            if (version != version(articleId)) {
+                remove(key, rendered);
+            }
+        }
+
+        return html;
+    }
+
+    public void invalidateArticle(Long articleId) {
+        versions.computeIfAbsent(articleId, id -> new AtomicLong()).incrementAndGet();
+        removeEntries(articleId);
+    }
+
+    /**
+     * Drops a deleted article's entries and its version, so deleted articles leave nothing behind.
+     */
+    public void removeArticle(Long articleId) {
+        versions.remove(articleId);
+        removeEntries(articleId);
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Updated event) {
+        invalidateArticle(event.articleId());
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        removeArticle(event.articleId());
+    }
+
+    @TransactionalEventListener
+    public void on(CommentEvent.Saved event) {
+        invalidateArticle(event.articleId());
+    }
+
+    @TransactionalEventListener
+    public void on(CommentEvent.Updated event) {
+        invalidateArticle(event.articleId());
+    }
+
+    @TransactionalEventListener
+    public void on(CommentEvent.Deleted event) {
+        invalidateArticle(event.articleId());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static FragmentKey keyOf(Long articleId, long version, Fragment fragment, Pageable comments) {
+        return fragment == Fragment.BODY
+                ? new FragmentKey(articleId, fragment, 0, 0, version)
+                : new FragmentKey(articleId, fragment, comments.getPageNumber(), comments.getPageSize(), version);
+    }
+
+    /**
+     * Expired entries are removed when found, and otherwise age out of the access-ordered map.
+     */
+    private synchronized Entry lookup(FragmentKey key, long now) {
+        Entry entry = entries.get(key);
+
+        if (entry != null && !entry.isAliveAt(now)) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void store(FragmentKey key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    private synchronized void remove(FragmentKey key, Entry entry) {
+        entries.remove(key, entry);
+    }
+
+    private synchronized void removeEntries(Long articleId) {
+        entries.keySet().removeIf(key -> key.articleId().equals(articleId));
+    }
+
+    private record FragmentKey(Long articleId, Fragment fragment, int page, int size, long version) {
+    }
+
+    private record Entry(String html, long expiresAt) {
+
+        boolean isAliveAt(long now) {
+            return now - expiresAt < 0;
+        }
+    }
+}
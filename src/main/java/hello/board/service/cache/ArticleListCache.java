@@ -0,0 +1,142 @@
+package hello.board.service.cache;
+
+import hello.board.dto.service.search.ArticleListDto;
+import hello.board.service.event.ArticleEvent;
+import hello.board.service.event.CommentEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+public class ArticleListCache {
+
+    private final Map<PageKey, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final int pages;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ArticleListCache(@Value("${view.board.first-pages-cache.pages}") int pages,
+                            @Value("${view.board.first-pages-cache.ttl}") Duration ttl,
+                            @Value("${view.board.first-pages-cache.max-entries}") int maxEntries,
+                            MeterRegistry meterRegistry) {
+        this.pages = pages;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+
+        this.hits = Counter.builder("board.list.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("board.list.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        Gauge.builder("board.list.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    public Page<ArticleListDto> get(Pageable pageable, Supplier<Page<ArticleListDto>> loader) {
+        if (!isCacheable(pageable)) {
+            return loader.get();
+        }
+
+        final PageKey key = new PageKey(pageable.getPageNumber(), pageable.getPageSize());
+        final long now = System.nanoTime();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.isAliveAt(now)) {
+            hits.increment();
+            return entry.page();
+        }
+
+        misses.increment();
+
+        final long loadedGeneration = generation.get();
+        Page<ArticleListDto> page = loader.get();
+
+        if (entries.containsKey(key) || entries.size() < maxEntries) {
+            Entry loaded = new Entry(page, idsOf(page), now + ttlNanos);
+            entries.put(key, loaded);
+
+            if (generation.get() != loadedGeneration) {
+                entries.remove(key, loaded);
+            }
+        }
+
+        return page;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public void invalidateArticle(Long articleId) {
+        generation.incrementAndGet();
+        entries.values().removeIf(entry -> entry.articleIds().contains(articleId));
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Saved event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Updated event) {
+        invalidateArticle(event.articleId());
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void on(CommentEvent.Saved event) {
+        invalidateArticle(event.articleId());
+    }
+
+    @TransactionalEventListener
+    public void on(CommentEvent.Deleted event) {
+        invalidateArticle(event.articleId());
+    }
+
+    private boolean isCacheable(Pageable pageable) {
+        return pageable.isPaged()
+                && pageable.getSort().isUnsorted()
+                && pageable.getPageNumber() < pages;
+    }
+
+    private static Set<Long> idsOf(Page<ArticleListDto> page) {
+        return page.getContent().stream()
+                .map(ArticleListDto::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private record PageKey(int number, int size) {
+    }
+
+    private record Entry(Page<ArticleListDto> page, Set<Long> articleIds, long expiresAt) {
+
+        boolean isAliveAt(long now) {
+            return now - expiresAt < 0;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package hello.board.service.cache;
+
+import hello.board.dto.service.search.ArticleListDto;
+import hello.board.dto.service.search.ArticleSearchCond;
+import hello.board.dto.service.search.ArticleSearchType;
+import hello.board.dto.service.search.ArticleSortType;
+import hello.board.service.event.ArticleEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class ArticleSearchCache {
+
+    private final Map<SearchKey, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final long ttlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ArticleSearchCache(@Value("${search.cache.max-entries}") int maxEntries,
+                              @Value("${search.cache.ttl}") Duration ttl,
+                              MeterRegistry meterRegistry) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SearchKey, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.ttlNanos = ttl.toNanos();
+
+        this.hits = Counter.builder("board.search.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("board.search.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        Gauge.builder("board.search.cache.size", this, ArticleSearchCache::size)
+                .register(meterRegistry);
+    }
+
+    public Page<ArticleListDto> get(ArticleSearchCond cond, Pageable pageable, Supplier<Page<ArticleListDto>> loader) {
+        if (ttlNanos <= 0 || !pageable.isPaged() || pageable.getSort().isSorted()) {
+            return loader.get();
+        }
+
+        final SearchKey key = SearchKey.of(cond, pageable);
+        final long currentGeneration = generation.get();
+        final long now = System.nanoTime();
+
+        Entry entry = find(key);
+        if (entry != null && entry.isValid(currentGeneration, now)) {
+            hits.increment();
+            return entry.page();
+        }
+
+        misses.increment();
+
+        Page<ArticleListDto> page = loader.get();
+        store(key, new Entry(page, currentGeneration, now + ttlNanos));
+
+        return page;
+    }
+
+    public void bumpGeneration() {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Saved event) {
+        bumpGeneration();
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Updated event) {
+        bumpGeneration();
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        bumpGeneration();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry find(SearchKey key) {
+        return entries.get(key);
+    }
+
+    private synchronized void store(SearchKey key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    private record SearchKey(ArticleSearchType type, Object match, ArticleSortType sort,
+                             LocalDate from, LocalDate to, int number, int size) {
+
+        static SearchKey of(ArticleSearchCond cond, Pageable pageable) {
+            return new SearchKey(
+                    cond.getType(),
+                    cond.matchKey(),
+                    cond.getSort(),
+                    cond.getFrom(),
+                    cond.getTo(),
+                    pageable.getPageNumber(),
+                    pageable.getPageSize()
+            );
+        }
+    }
+
+    private record Entry(Page<ArticleListDto> page, long generation, long expiresAt) {
+
+        boolean isValid(long currentGeneration, long now) {
+            return generation == currentGeneration && now - expiresAt < 0;
+        }
+    }
+}
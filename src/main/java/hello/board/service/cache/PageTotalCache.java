@@ -0,0 +1,156 @@
+package hello.board.service.cache;
+
+import hello.board.dto.service.search.ArticleSearchCond;
+import hello.board.dto.service.search.ArticleSearchType;
+import hello.board.dto.service.search.SearchQuery;
+import hello.board.service.event.ArticleEvent;
+import hello.board.service.event.CommentEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived totals for list queries, so deep page requests can be range-checked
+ * before any content query runs and repeated pages can skip their count query.
+ */
+@Component
+public class PageTotalCache {
+
+    private final Map<Object, Entry> entries;
+
+    private final long ttlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public PageTotalCache(@Value("${search.page-total-cache.max-entries}") int maxEntries,
+                          @Value("${search.page-total-cache.ttl}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.ttlNanos = ttl.toNanos();
+
+        this.hits = Counter.builder("board.page.total.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("board.page.total.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public static Object articleKey(ArticleSearchCond cond) {
+        if (cond == null) {
+            return new ArticleKey(null, SearchQuery.parse(""), null, null);
+        }
+
+        return cond.isEmpty()
+                ? new ArticleKey(null, cond.getQuery(), cond.getFrom(), cond.getTo())
+                : new ArticleKey(cond.getType(), cond.matchKey(), cond.getFrom(), cond.getTo());
+    }
+
+    public static Object commentKey(Long articleId) {
+        return new CommentKey(articleId);
+    }
+
+    public OptionalLong find(Object key) {
+        if (ttlNanos <= 0) {
+            return OptionalLong.empty();
+        }
+
+        Entry entry = lookup(key);
+
+        if (entry != null && System.nanoTime() - entry.expiresAt() < 0) {
+            hits.increment();
+            return OptionalLong.of(entry.total());
+        }
+
+        misses.increment();
+        return OptionalLong.empty();
+    }
+
+    public long get(Object key, LongSupplier loader) {
+        OptionalLong cached = find(key);
+
+        if (cached.isPresent()) {
+            return cached.getAsLong();
+        }
+
+        final long total = loader.getAsLong();
+        put(key, total);
+
+        return total;
+    }
+
+    public void put(Object key, long total) {
+        if (ttlNanos > 0) {
+            store(key, new Entry(total, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    /**
+     * Any article write can change the total of any article list or search.
+     */
+    public synchronized void invalidateArticles() {
+        entries.keySet().removeIf(ArticleKey.class::isInstance);
+    }
+
+    public synchronized void invalidateComments(Long articleId) {
+        entries.remove(new CommentKey(articleId));
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Saved event) {
+        invalidateArticles();
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Updated event) {
+        invalidateArticles();
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        invalidateArticles();
+        invalidateComments(event.articleId());
+    }
+
+    @TransactionalEventListener
+    public void on(CommentEvent.Saved event) {
+        invalidateComments(event.articleId());
+    }
+
+    @TransactionalEventListener
+    public void on(CommentEvent.Deleted event) {
+        invalidateComments(event.articleId());
+    }
+
+    private synchronized Entry lookup(Object key) {
+        return entries.get(key);
+    }
+
+    private synchronized void store(Object key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    private record ArticleKey(ArticleSearchType type, Object match, LocalDate from, LocalDate to) {
+    }
+
+    private record CommentKey(Long articleId) {
+    }
+
+    private record Entry(long total, long expiresAt) {
+    }
+}
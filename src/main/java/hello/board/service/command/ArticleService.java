@@ -3,22 +3,26 @@ package hello.board.service.command;
 import hello.board.domain.Article;
 import hello.board.domain.Comment;
 import hello.board.domain.User;
-import hello.board.dto.service.ArticleCommentFlatDto;
+import hello.board.dto.service.ArticleHeaderDto;
 import hello.board.exception.FailToFindEntityException;
 import hello.board.exception.NoAuthorityException;
 import hello.board.exception.WrongPageRequestException;
 import hello.board.repository.ArticleRepository;
+import hello.board.repository.CommentRepository;
 import hello.board.repository.UserRepository;
+import hello.board.service.cache.ArticleFragmentCache;
+import hello.board.service.counter.UniqueViewerCounter;
+import hello.board.service.counter.ViewCountBuffer;
+import hello.board.service.event.ArticleEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
-
 import static hello.board.dto.service.ArticleServiceDto.*;
 
 @Slf4j
@@ -29,14 +33,20 @@ public class ArticleService {
 
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long save(Long userId, Save param) {
         User author = userRepository.findById(userId)
                 .orElseThrow(() -> FailToFindEntityException.of("User"));
 
-        Article article = param.toEntity(author);
+        Article article = articleRepository.save(param.toEntity(author));
+
+        eventPublisher.publishEvent(new ArticleEvent.Saved(article.getId(), article.getTitle(), article.getContent()));
 
-        return articleRepository.save(article).getId();
+        return article.getId();
     }
 
     public void update(Long articleId, Long userId, Update param) {
@@ -47,6 +57,8 @@ public class ArticleService {
 
             article.modifyTitle(param.getTitle());
             article.modifyContent(param.getContent());
+
+            eventPublisher.publishEvent(new ArticleEvent.Updated(articleId, article.getTitle(), article.getContent()));
         }
     }
 
@@ -56,27 +68,76 @@ public class ArticleService {
         validateUserId(article, userId);
 
         articleRepository.delete(article);
+
+        eventPublisher.publishEvent(new ArticleEvent.Deleted(articleId));
     }
 
-    public Article lookUp(Long id) {
-        return articleRepository.findWithComments(id)
-                .orElseThrow(() -> FailToFindEntityException.of("Article"))
-                .increaseView();
+    /**
+     * The article is loaded read-only and views are counted by {@link ViewCountBuffer},
+     * so a look-up never writes the article row back through dirty checking.
+     * An immediate view write runs in its own transaction after this one commits.
+     */
+    @Transactional(readOnly = true)
+    public LookUp lookUp(Long id, Viewer viewer) {
+        Article article = articleRepository.findWithComments(id)
+                .orElseThrow(() -> FailToFindEntityException.of("Article"));
+
+        return lookedUp(article, new PageImpl<>(article.getComments()), viewer);
     }
 
-    public LookUp lookUp(Long id, Pageable pageable) {
-        Page<ArticleCommentFlatDto> result = articleRepository.findWithComments(id, pageable);
+    /**
+     * Loads the article once, then one page of its comments.
+     * The comment count only runs when the page alone cannot tell the total.
+     */
+    @Transactional(readOnly = true)
+    public LookUp lookUp(Long id, Pageable pageable, Viewer viewer) {
+        Article article = articleRepository.findDetailById(id)
+                .orElseThrow(() -> FailToFindEntityException.of("Article"));
+
+        Page<Comment> comments = commentRepository.findByArticleId(id, pageable);
 
-        Article article = extractArticleFrom(result)
-                .increaseView();
+        if (comments.isEmpty() && pageable.getPageNumber() > 0) {
+            throw WrongPageRequestException.of(pageable.getPageNumber(), pageable.getPageSize());
+        }
 
-        Page<Comment> comments = extractCommentsFrom(result);
+        return lookedUp(article, comments, viewer);
+    }
 
-        return LookUp.of(article, comments);
+    /**
+     * Loads only the header fields and counts the view, for a page whose body and comments come from
+     * {@link ArticleFragmentCache}.
+     */
+    @Transactional(readOnly = true)
+    public Header lookUpHeader(Long id, Viewer viewer) {
+        ArticleHeaderDto header = articleRepository.findHeaderById(id)
+                .orElseThrow(() -> FailToFindEntityException.of("Article"));
+
+        final long views = header.getView() + view(id, viewer);
+
+        return Header.of(header, views, uniqueViewerCounter.count(id));
     }
 
     /* ################################################## */
 
+    private LookUp lookedUp(Article article, Page<Comment> comments, Viewer viewer) {
+        final Long id = article.getId();
+        final long views = article.getView() + view(id, viewer);
+
+        return LookUp.of(article, comments, views, uniqueViewerCounter.count(id));
+    }
+
+    /**
+     * Counts one view and returns the views not yet visible in the article just read.
+     */
+    private long view(Long id, Viewer viewer) {
+        final long unseen = viewCountBuffer.increment(id);
+
+        uniqueViewerCounter.record(id, viewer);
+        eventPublisher.publishEvent(new ArticleEvent.Viewed(id));
+
+        return unseen;
+    }
+
     private Article findArticleById(Long articleId) {
         return articleRepository.findById(articleId)
                 .orElseThrow(() -> FailToFindEntityException.of("Article"));
@@ -87,24 +148,4 @@ public class ArticleService {
             throw new NoAuthorityException("You do not have authority!");
         }
     }
-
-    private static Article extractArticleFrom(Page<ArticleCommentFlatDto> result) {
-        if (result.getTotalElements() == 0) {
-            throw FailToFindEntityException.of("Article");
-        }
-
-        return result.getContent().stream()
-                .map(ArticleCommentFlatDto::getArticle)
-                .findAny()
-                .orElseThrow(() -> WrongPageRequestException.of(result.getNumber(), result.getSize()));
-    }
-
-    private static Page<Comment> extractCommentsFrom(Page<ArticleCommentFlatDto> result) {
-        List<ArticleCommentFlatDto> content = result.getContent();
-        final boolean commentDoesNotExist = content.stream()
-                .map(ArticleCommentFlatDto::getComment)
-                .anyMatch(Objects::isNull);
-
-        return commentDoesNotExist ? Page.empty() : result.map(ArticleCommentFlatDto::getComment);
-    }
 }
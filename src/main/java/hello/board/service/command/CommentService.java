@@ -8,7 +8,9 @@ import hello.board.exception.NoAuthorityException;
 import hello.board.repository.ArticleRepository;
 import hello.board.repository.CommentRepository;
 import hello.board.repository.UserRepository;
+import hello.board.service.event.CommentEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long save(Long articleId, Long userId, Save param) {
         Article article = articleRepository.findById(articleId)
@@ -32,8 +35,12 @@ public class CommentService {
                 .orElseThrow(() -> FailToFindEntityException.of("User"));
 
         Comment comment = param.toEntity(article, author);
+        Long id = commentRepository.save(comment).getId();
 
-        return commentRepository.save(comment).getId();
+        articleRepository.addCommentCount(articleId, 1L);
+        eventPublisher.publishEvent(new CommentEvent.Saved(articleId));
+
+        return id;
     }
 
     public void update(Long commentId, Long articleId, Long userId, Update param) {
@@ -44,6 +51,8 @@ public class CommentService {
             validateUserId(comment, userId);
 
             comment.modifyContent(param.getContent());
+
+            eventPublisher.publishEvent(new CommentEvent.Updated(articleId));
         }
     }
 
@@ -55,6 +64,9 @@ public class CommentService {
 
         comment.deleteFromArticle();
         commentRepository.delete(comment);
+
+        articleRepository.addCommentCount(articleId, -1L);
+        eventPublisher.publishEvent(new CommentEvent.Deleted(articleId));
     }
 
     /* ################################################### */
@@ -3,6 +3,8 @@ package hello.board.service.command;
 import hello.board.domain.User;
 import hello.board.exception.FailToFindEntityException;
 import hello.board.repository.UserRepository;
+import hello.board.service.index.SuggestIndex;
+import hello.board.service.index.UserNameDirectory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -10,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static hello.board.dto.service.UserServiceDto.Save;
 import static hello.board.dto.service.UserServiceDto.Update;
+import static hello.board.util.TransactionCallbacks.afterCommit;
 
 @Service
 @Transactional
@@ -18,10 +21,15 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserNameDirectory userNameDirectory;
+    private final SuggestIndex suggestIndex;
 
     public Long save(Save param) {
-        User user = param.toEntity(passwordEncoder);
-        return userRepository.save(user).getId();
+        User user = userRepository.save(param.toEntity(passwordEncoder));
+
+        register(user);
+
+        return user.getId();
     }
 
     public void update(Long id, Update param) {
@@ -31,9 +39,21 @@ public class UserService {
 
             user.modifyName(param.getName());
             user.modifyPassword(encodeRawPassword(param.getPassword()));
+
+            register(user);
         }
     }
 
+    private void register(User user) {
+        final Long id = user.getId();
+        final String name = user.getName();
+
+        afterCommit(() -> {
+            userNameDirectory.put(id, name);
+            suggestIndex.putName(id, name);
+        });
+    }
+
     private String encodeRawPassword(String rawPassword) {
         return rawPassword == null ? null : passwordEncoder.encode(rawPassword);
     }
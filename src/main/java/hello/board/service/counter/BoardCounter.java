@@ -0,0 +1,138 @@
+package hello.board.service.counter;
+
+import hello.board.service.event.ArticleEvent;
+import hello.board.service.event.CommentEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class BoardCounter {
+
+    private final AtomicLong articles = new AtomicLong();
+    private final Map<Long, AtomicLong> comments = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public record Snapshot(long articles, Map<Long, Long> comments) {
+    }
+
+    public void articleAdded() {
+        articles.incrementAndGet();
+    }
+
+    public void articleRemoved(Long articleId) {
+        articles.decrementAndGet();
+        comments.remove(articleId);
+    }
+
+    public void commentAdded(Long articleId) {
+        comments.computeIfAbsent(articleId, key -> new AtomicLong())
+                .incrementAndGet();
+    }
+
+    public void commentRemoved(Long articleId) {
+        comments.computeIfPresent(articleId, (key, count) -> count.decrementAndGet() > 0 ? count : null);
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Saved event) {
+        articleAdded();
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        articleRemoved(event.articleId());
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(CommentEvent.Saved event) {
+        commentAdded(event.articleId());
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(CommentEvent.Deleted event) {
+        commentRemoved(event.articleId());
+    }
+
+    /**
+     * The article count, taken right before the articles are counted in the database for {@link #reconcile}.
+     */
+    public long snapshotArticles() {
+        return articles.get();
+    }
+
+    /**
+     * The comment counts, taken right before the comments are counted in the database for {@link #reconcile}.
+     */
+    public Map<Long, Long> snapshotComments() {
+        Map<Long, Long> commentCounts = new HashMap<>();
+        comments.forEach((articleId, count) -> commentCounts.put(articleId, count.get()));
+
+        return commentCounts;
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(snapshotArticles(), snapshotComments());
+    }
+
+    /**
+     * Corrects each counter by the difference between the database count and its snapshot.
+     * A change applied after the snapshot is kept only once: its write either committed after the count was read,
+     * or it is already in the count and cancels out. The exception is a write that committed before its count query
+     * but was applied after the snapshot; that is counted twice. Each snapshot is therefore taken right before
+     * its own query, which leaves only writes committing in that gap, and the next reconcile corrects those.
+     */
+    public synchronized void reconcile(Snapshot before, long articleCount, Map<Long, Long> commentCounts) {
+        articles.addAndGet(articleCount - before.articles());
+
+        Set<Long> articleIds = new HashSet<>(commentCounts.keySet());
+        articleIds.addAll(before.comments().keySet());
+
+        for (Long articleId : articleIds) {
+            final long correction = commentCounts.getOrDefault(articleId, 0L) - before.comments().getOrDefault(articleId, 0L);
+
+            if (correction != 0) {
+                comments.compute(articleId, (key, count) -> {
+                    AtomicLong corrected = count == null ? new AtomicLong() : count;
+                    return corrected.addAndGet(correction) > 0 ? corrected : null;
+                });
+            }
+        }
+
+        ready = true;
+    }
+
+    public void reset(long articleCount, Map<Long, Long> commentCounts) {
+        reconcile(snapshot(), articleCount, commentCounts);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public OptionalLong articleCount() {
+        return ready ? OptionalLong.of(Math.max(articles.get(), 0L)) : OptionalLong.empty();
+    }
+
+    public OptionalLong commentCount(Long articleId) {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+
+        AtomicLong count = comments.get(articleId);
+        return OptionalLong.of(count == null ? 0L : Math.max(count.get(), 0L));
+    }
+}
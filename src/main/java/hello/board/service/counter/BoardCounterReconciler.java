@@ -0,0 +1,42 @@
+package hello.board.service.counter;
+
+import hello.board.dto.service.search.CommentCountDto;
+import hello.board.repository.ArticleRepository;
+import hello.board.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCounterReconciler {
+
+    private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
+    private final BoardCounter boardCounter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+        log.info("Board counter loaded: {} articles", boardCounter.articleCount().orElse(0L));
+    }
+
+    @Scheduled(fixedDelayString = "${counter.reconcile-delay}", initialDelayString = "${counter.reconcile-delay}")
+    public void reconcile() {
+        final long articlesBefore = boardCounter.snapshotArticles();
+        final long articleCount = articleRepository.count();
+
+        final Map<Long, Long> commentsBefore = boardCounter.snapshotComments();
+        Map<Long, Long> commentCounts = commentRepository.countGroupByArticleId().stream()
+                .collect(Collectors.toMap(CommentCountDto::getArticleId, CommentCountDto::getCount));
+
+        boardCounter.reconcile(new BoardCounter.Snapshot(articlesBefore, commentsBefore), articleCount, commentCounts);
+    }
+}
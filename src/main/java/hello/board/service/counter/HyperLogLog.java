@@ -0,0 +1,101 @@
+package hello.board.service.counter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog cardinality sketch with {@value #REGISTERS} one-byte registers (about 3% standard error).
+ * <p>
+ * Registers only ever grow, so two sketches merge by taking the larger register, and merging the
+ * same sketch twice changes nothing. Not thread-safe for writers; callers serialize adds per sketch.
+ */
+final class HyperLogLog {
+
+    static final int PRECISION = 10;
+    static final int REGISTERS = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers;
+
+    HyperLogLog() {
+        this(new byte[REGISTERS]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * Restores a sketch from {@link #toBytes()}. Bytes of another size are treated as an empty sketch.
+     */
+    static HyperLogLog fromBytes(byte[] bytes) {
+        return bytes == null || bytes.length != REGISTERS
+                ? new HyperLogLog()
+                : new HyperLogLog(bytes.clone());
+    }
+
+    void add(String value) {
+        final long hash = hash(value);
+        final int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        final int rank = Math.min(Long.numberOfLeadingZeros(hash << PRECISION) + 1, Long.SIZE - PRECISION + 1);
+
+        if (registers[index] < rank) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    HyperLogLog merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (registers[i] < other.registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    long estimate() {
+        double sum = 0;
+        int zeros = 0;
+
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        final double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            return Math.round(REGISTERS * Math.log((double) REGISTERS / zeros));
+        }
+        return Math.round(estimate);
+    }
+
+    byte[] toBytes() {
+        return Arrays.copyOf(registers, REGISTERS);
+    }
+
+    /* ################################################## */
+
+    /**
+     * 64-bit FNV-1a followed by the MurmurHash3 finalizer, so that short, similar keys spread over all bits.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -0,0 +1,232 @@
+package hello.board.service.counter;
+
+import hello.board.domain.ArticleViewerSketch;
+import hello.board.dto.service.ArticleServiceDto.Viewer;
+import hello.board.repository.ArticleViewerSketchRepository;
+import hello.board.service.event.ArticleEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Estimated distinct viewers per article, counted with {@link HyperLogLog} sketches instead of (viewer, article) pairs.
+ * <p>
+ * Views since the last persist are added to an in-memory sketch; a scheduled persist merges those into the
+ * {@link ArticleViewerSketch} rows, and a read merges the stored sketch with the in-memory one.
+ * <p>
+ * Stored sketches are cached for {@code counter.unique-viewer-cache.ttl}, so a read only hits the database
+ * once per article per ttl. Registers only grow and merging is idempotent, so the cached copy is merged with
+ * each sketch this instance persists and never goes backwards. Persists lock the rows they merge into,
+ * so several instances may persist into the same row without losing each other's registers.
+ */
+@Slf4j
+@Component
+public class UniqueViewerCounter {
+
+    private final Map<Long, HyperLogLog> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Stored> stored;
+
+    private final ArticleViewerSketchRepository sketchRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate removal;
+    private final long ttlNanos;
+
+    public UniqueViewerCounter(ArticleViewerSketchRepository sketchRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${counter.unique-viewer-cache.ttl}") Duration ttl,
+                               @Value("${counter.unique-viewer-cache.max-entries}") int maxEntries) {
+        this.sketchRepository = sketchRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.removal = new TransactionTemplate(transactionManager);
+        this.removal.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttlNanos = ttl.toNanos();
+        this.stored = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Stored> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public void record(Long articleId, Viewer viewer) {
+        if (viewer == null || !viewer.isKnown()) {
+            return;
+        }
+
+        pending.compute(articleId, (id, sketch) -> {
+            HyperLogLog updated = sketch == null ? new HyperLogLog() : sketch;
+            updated.add(viewer.getKey());
+            return updated;
+        });
+    }
+
+    public long count(Long articleId) {
+        HyperLogLog sketch = HyperLogLog.fromBytes(storedRegisters(articleId));
+
+        HyperLogLog recent = pending.get(articleId);
+        if (recent != null) {
+            sketch.merge(recent);
+        }
+
+        return sketch.estimate();
+    }
+
+    /**
+     * Drops the in-memory and cached sketches and deletes the stored one in a transaction of its own,
+     * so it can run after the article delete commits.
+     */
+    public synchronized void remove(Long articleId) {
+        pending.remove(articleId);
+        evict(articleId);
+
+        try {
+            removal.executeWithoutResult(status -> sketchRepository.deleteByArticleId(articleId));
+        } catch (RuntimeException e) {
+            log.warn("unique viewer sketch delete failed for article {}", articleId, e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        remove(event.articleId());
+    }
+
+    @Scheduled(fixedDelayString = "${counter.unique-viewer-persist-delay}", initialDelayString = "${counter.unique-viewer-persist-delay}")
+    public synchronized void persist() {
+        Map<Long, HyperLogLog> drained = new HashMap<>();
+
+        for (Long articleId : pending.keySet()) {
+            HyperLogLog sketch = pending.get(articleId);
+            if (sketch != null) {
+                mergeCached(articleId, sketch.toBytes());
+                pending.remove(articleId);
+                drained.put(articleId, sketch);
+            }
+        }
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, byte[]> written = transaction.execute(status -> write(drained));
+            written.forEach(this::cache);
+        } catch (RuntimeException e) {
+            drained.forEach((articleId, sketch) -> pending.merge(articleId, sketch, HyperLogLog::merge));
+            log.warn("unique viewer persist failed, {} articles kept for the next persist", drained.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    /* ################################################## */
+
+    /**
+     * Merges into rows locked for update, so a concurrent persist from another instance waits instead of
+     * overwriting this merge. Two instances inserting the same new row make one persist fail on the key;
+     * its sketches are kept and merged into the row on the next persist.
+     */
+    private Map<Long, byte[]> write(Map<Long, HyperLogLog> sketches) {
+        Map<Long, ArticleViewerSketch> rows = sketchRepository.findAllForUpdate(sketches.keySet()).stream()
+                .collect(Collectors.toMap(ArticleViewerSketch::getArticleId, Function.identity()));
+
+        Map<Long, byte[]> written = new HashMap<>();
+
+        sketches.forEach((articleId, sketch) -> {
+            ArticleViewerSketch row = rows.get(articleId);
+
+            if (row == null) {
+                row = sketchRepository.save(ArticleViewerSketch.create(articleId, sketch.toBytes()));
+            } else {
+                row.modifyRegisters(HyperLogLog.fromBytes(row.getRegisters()).merge(sketch).toBytes());
+            }
+
+            written.put(articleId, row.getRegisters());
+        });
+
+        return written;
+    }
+
+    private byte[] storedRegisters(Long articleId) {
+        Stored cached = cached(articleId);
+
+        if (cached != null && System.nanoTime() - cached.expiresAt() < 0) {
+            return cached.registers();
+        }
+
+        byte[] registers = sketchRepository.findById(articleId)
+                .map(ArticleViewerSketch::getRegisters)
+                .orElse(null);
+
+        cache(articleId, registers);
+        return registers;
+    }
+
+    private Stored cached(Long articleId) {
+        synchronized (stored) {
+            return stored.get(articleId);
+        }
+    }
+
+    /**
+     * Keeps the larger of each register, so a slow read never replaces a newer cached sketch with an older one.
+     */
+    private void cache(Long articleId, byte[] registers) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+
+        synchronized (stored) {
+            Stored current = stored.get(articleId);
+            stored.put(articleId, new Stored(union(current == null ? null : current.registers(), registers), System.nanoTime() + ttlNanos));
+        }
+    }
+
+    /**
+     * Adds a sketch about to be persisted to a cached copy, without creating one: an uncached article
+     * reads the stored sketch on its next count.
+     */
+    private void mergeCached(Long articleId, byte[] registers) {
+        synchronized (stored) {
+            Stored current = stored.get(articleId);
+
+            if (current != null) {
+                stored.put(articleId, new Stored(union(current.registers(), registers), current.expiresAt()));
+            }
+        }
+    }
+
+    private void evict(Long articleId) {
+        synchronized (stored) {
+            stored.remove(articleId);
+        }
+    }
+
+    private static byte[] union(byte[] left, byte[] right) {
+        if (left == null || right == null) {
+            return left == null ? right : left;
+        }
+
+        return HyperLogLog.fromBytes(left).merge(HyperLogLog.fromBytes(right)).toBytes();
+    }
+
+    private record Stored(byte[] registers, long expiresAt) {
+    }
+}
@@ -0,0 +1,180 @@
+package hello.board.service.counter;
+
+import hello.board.repository.ArticleRepository;
+import hello.board.service.event.ArticleEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static hello.board.util.TransactionCallbacks.afterCommit;
+
+/**
+ * Write-behind view counts. Reads only bump an in-memory {@link LongAdder} per article,
+ * and a scheduled flush writes the accumulated deltas back in bulk updates, so article reads
+ * never update the article row themselves.
+ * <p>
+ * Articles with the same delta share one {@code views = views + :delta} statement.
+ * Views not yet flushed are lost if the process dies; a graceful shutdown flushes them.
+ * <p>
+ * With {@code counter.view-write-behind} off, every view is written at once with an atomic
+ * {@code view = view + 1} instead, trading a row update per read for durability. The write runs in its own
+ * transaction once the caller's commits, so the look-up itself stays read-only.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final int MAX_IDS_PER_UPDATE = 1000;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate immediateTransaction;
+    private final boolean writeBehind;
+
+    public ViewCountBuffer(ArticleRepository articleRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${counter.view-write-behind}") boolean writeBehind) {
+        this.articleRepository = articleRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.immediateTransaction = new TransactionTemplate(transactionManager);
+        this.immediateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * Records one view and returns the views of this article not yet visible in an article read before this call.
+     * Without write-behind the view is written after the caller's transaction commits.
+     */
+    public long increment(Long articleId) {
+        if (!writeBehind) {
+            afterCommit(() -> writeNow(articleId));
+            return 1L;
+        }
+
+        Pending views = pending.compute(articleId, (id, current) -> {
+            Pending counted = current == null ? new Pending() : current;
+            counted.added.increment();
+            return counted;
+        });
+
+        return views.unflushed();
+    }
+
+    public long pending(Long articleId) {
+        Pending views = pending.get(articleId);
+
+        return views == null ? 0L : views.unflushed();
+    }
+
+    public void remove(Long articleId) {
+        pending.remove(articleId);
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        remove(event.articleId());
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${counter.view-flush-delay}", initialDelayString = "${counter.view-flush-delay}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        pending.forEach((id, views) -> {
+            final long delta = views.drain();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> write(deltas));
+        } catch (RuntimeException e) {
+            deltas.forEach((id, delta) -> {
+                Pending views = pending.get(id);
+                if (views != null) {
+                    views.restore(delta);
+                }
+            });
+            log.warn("view count flush failed, {} articles kept for the next flush", deltas.size(), e);
+            return;
+        }
+
+        deltas.keySet().forEach(id -> pending.computeIfPresent(id, (key, views) -> views.unflushed() == 0L ? null : views));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /* ################################################## */
+
+    private void writeNow(Long articleId) {
+        try {
+            immediateTransaction.executeWithoutResult(status -> articleRepository.increaseView(articleId));
+        } catch (RuntimeException e) {
+            log.warn("view count write failed for article {}", articleId, e);
+        }
+    }
+
+    private void write(Map<Long, Long> deltas) {
+        Map<Long, List<Long>> idsByDelta = new TreeMap<>();
+        deltas.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(id));
+
+        idsByDelta.forEach((delta, ids) -> {
+            Collections.sort(ids);
+
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                articleRepository.addViews(delta, ids.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, ids.size())));
+            }
+        });
+    }
+
+    /**
+     * {@code added} only grows; {@code flushed} is moved forward by the flushing thread only,
+     * so a view counted during a flush is never lost, it just lands in the next one.
+     * <p>
+     * Views are added inside {@code compute} so a flush can drop an idle article's entry with
+     * {@code computeIfPresent} without racing a view that was about to land in it.
+     */
+    private static final class Pending {
+
+        private final LongAdder added = new LongAdder();
+        private volatile long flushed = 0L;
+
+        long unflushed() {
+            return Math.max(added.sum() - flushed, 0L);
+        }
+
+        long drain() {
+            final long total = added.sum();
+            final long delta = total - flushed;
+            flushed = total;
+            return delta;
+        }
+
+        void restore(long delta) {
+            flushed -= delta;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package hello.board.service.event;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.core.Ordered;
+
+/**
+ * Article writes published by {@code ArticleService} and handled after the transaction commits.
+ * <p>
+ * Indexes, counters and rankings handle an event at {@link #SOURCE_ORDER}, before the caches filled from them,
+ * so a cache never stores a result read before they caught up.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ArticleEvent {
+
+    public static final int SOURCE_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    public record Saved(Long articleId, String title, String content) {
+    }
+
+    public record Updated(Long articleId, String title, String content) {
+    }
+
+    public record Deleted(Long articleId) {
+    }
+
+    public record Viewed(Long articleId) {
+    }
+}
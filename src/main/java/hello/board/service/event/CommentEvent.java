@@ -0,0 +1,21 @@
+package hello.board.service.event;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Comment writes published by {@code CommentService} and handled after the transaction commits,
+ * in the same order as {@link ArticleEvent}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CommentEvent {
+
+    public record Saved(Long articleId) {
+    }
+
+    public record Updated(Long articleId) {
+    }
+
+    public record Deleted(Long articleId) {
+    }
+}
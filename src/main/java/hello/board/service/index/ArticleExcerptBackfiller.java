@@ -0,0 +1,32 @@
+package hello.board.service.index;
+
+import hello.board.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.snippet.backfill-excerpt", havingValue = "true")
+public class ArticleExcerptBackfiller {
+
+    private static final long BATCH_SIZE = 1000L;
+
+    private final ArticleRepository articleRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        final long maxId = articleRepository.findMaxId();
+        long updated = 0L;
+
+        for (long from = 0L; from < maxId; from += BATCH_SIZE) {
+            updated += articleRepository.backfillExcerpts(from, Math.min(from + BATCH_SIZE, maxId));
+        }
+
+        log.info("Article excerpts backfilled: {} articles", updated);
+    }
+}
@@ -0,0 +1,191 @@
+package hello.board.service.index;
+
+import hello.board.dto.service.search.ArticleSearchCond;
+import hello.board.dto.service.search.ArticleSearchType;
+import hello.board.dto.service.search.SearchQuery;
+import hello.board.service.event.ArticleEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ArticleTextIndex {
+
+    private final Map<String, Set<Long>> titlePostings = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> contentPostings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedArticle> documents = new ConcurrentHashMap<>();
+    private final LiveWrites liveWrites = new LiveWrites();
+
+    private final int maxCandidates;
+
+    private volatile boolean ready = false;
+
+    public ArticleTextIndex(@Value("${search.index.max-candidates}") int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    public synchronized void index(Long id, String title, String content) {
+        liveWrites.record(id);
+        put(id, title, content);
+    }
+
+    public synchronized void remove(Long id) {
+        liveWrites.record(id);
+        drop(id);
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Saved event) {
+        index(event.articleId(), event.title(), event.content());
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Updated event) {
+        index(event.articleId(), event.title(), event.content());
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        remove(event.articleId());
+    }
+
+    /**
+     * Indexes an article read by the startup loader, unless a live write for it has happened since the load began.
+     */
+    public synchronized void load(Long id, String title, String content) {
+        if (!liveWrites.isWritten(id)) {
+            put(id, title, content);
+        }
+    }
+
+    public void markReady() {
+        ready = true;
+        liveWrites.finish();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public Optional<Set<Long>> findCandidates(ArticleSearchCond cond) {
+        if (!ready || cond.isEmpty() || cond.getType() == ArticleSearchType.AUTHOR || cond.getQuery().hasUnboundedClause()) {
+            return Optional.empty();
+        }
+
+        Set<Long> candidates = new HashSet<>();
+
+        for (SearchQuery.Clause clause : cond.getQuery().getClauses()) {
+            candidates.addAll(candidatesOf(clause, cond.getType()));
+
+            if (candidates.size() > maxCandidates) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(candidates);
+    }
+
+    /* ################################################## */
+
+    private void put(Long id, String title, String content) {
+        drop(id);
+
+        IndexedArticle indexed = new IndexedArticle(NgramTokenizer.tokenize(title), NgramTokenizer.tokenize(content));
+
+        indexed.titleTokens().forEach(token -> addPosting(titlePostings, token, id));
+        indexed.contentTokens().forEach(token -> addPosting(contentPostings, token, id));
+
+        documents.put(id, indexed);
+    }
+
+    private void drop(Long id) {
+        IndexedArticle indexed = documents.remove(id);
+
+        if (indexed != null) {
+            indexed.titleTokens().forEach(token -> removePosting(titlePostings, token, id));
+            indexed.contentTokens().forEach(token -> removePosting(contentPostings, token, id));
+        }
+    }
+
+    /**
+     * Intersects the required terms of a clause, smallest candidate set first.
+     * Exclusions are left to the database: n-gram postings only prove a term may occur, not that it does.
+     */
+    private Set<Long> candidatesOf(SearchQuery.Clause clause, ArticleSearchType type) {
+        List<Set<Long>> terms = new ArrayList<>(clause.getIncluded().size());
+
+        for (String term : clause.getIncluded()) {
+            Set<String> tokens = NgramTokenizer.queryTokens(term);
+
+            Set<Long> ids = switch (type) {
+                case TITLE -> intersect(titlePostings, tokens);
+                case CONTENT -> intersect(contentPostings, tokens);
+                default -> union(intersect(titlePostings, tokens), intersect(contentPostings, tokens));
+            };
+
+            if (ids.isEmpty()) {
+                return ids;
+            }
+            terms.add(ids);
+        }
+
+        terms.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = terms.get(0);
+        for (int i = 1; i < terms.size() && !result.isEmpty(); i++) {
+            result.retainAll(terms.get(i));
+        }
+        return result;
+    }
+
+    private static Set<Long> intersect(Map<String, Set<Long>> postings, Set<String> tokens) {
+        List<Set<Long>> lists = new ArrayList<>(tokens.size());
+
+        for (String token : tokens) {
+            Set<Long> posting = postings.get(token);
+            if (posting == null || posting.isEmpty()) {
+                return new HashSet<>();
+            }
+            lists.add(posting);
+        }
+
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static Set<Long> union(Set<Long> a, Set<Long> b) {
+        a.addAll(b);
+        return a;
+    }
+
+    private static void addPosting(Map<String, Set<Long>> postings, String token, Long id) {
+        postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet())
+                .add(id);
+    }
+
+    private static void removePosting(Map<String, Set<Long>> postings, String token, Long id) {
+        postings.computeIfPresent(token, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private record IndexedArticle(Set<String> titleTokens, Set<String> contentTokens) {
+    }
+}
@@ -0,0 +1,47 @@
+package hello.board.service.index;
+
+import hello.board.dto.service.search.ArticleTextDto;
+import hello.board.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleTextIndexLoader {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleTextIndex articleTextIndex;
+    private final SuggestIndex suggestIndex;
+
+    /**
+     * Articles written after commit while this runs keep their live entry; the batch read may be older.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<ArticleTextDto> batch;
+
+        do {
+            batch = articleRepository.findTextsAfter(lastId, PageRequest.ofSize(BATCH_SIZE));
+
+            for (ArticleTextDto text : batch) {
+                articleTextIndex.load(text.getId(), text.getTitle(), text.getContent());
+                suggestIndex.loadTitle(text.getId(), text.getTitle());
+                lastId = text.getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        articleTextIndex.markReady();
+        suggestIndex.markTitlesLoaded();
+        log.info("Article text index loaded: {} articles", articleTextIndex.size());
+    }
+}
@@ -0,0 +1,32 @@
+package hello.board.service.index;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids written by after-commit updates while a startup bulk load is still running.
+ * <p>
+ * The loader reads a snapshot that may predate such a write, so it skips these ids instead of overwriting
+ * them with stale values. Callers check and apply under the same lock as their live writes.
+ */
+final class LiveWrites {
+
+    private final Set<Long> written = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loading = true;
+
+    void record(Long id) {
+        if (loading) {
+            written.add(id);
+        }
+    }
+
+    boolean isWritten(Long id) {
+        return written.contains(id);
+    }
+
+    void finish() {
+        loading = false;
+        written.clear();
+    }
+}
@@ -0,0 +1,52 @@
+package hello.board.service.index;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NgramTokenizer {
+
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+
+        if (text == null) {
+            return tokens;
+        }
+
+        String normalized = normalize(text);
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (!Character.isWhitespace(ch)) {
+                tokens.add(String.valueOf(ch));
+            }
+            if (i + 1 < normalized.length()) {
+                tokens.add(normalized.substring(i, i + 2));
+            }
+        }
+
+        return tokens;
+    }
+
+    public static Set<String> queryTokens(String keyword) {
+        String normalized = normalize(keyword.trim());
+
+        if (normalized.length() == 1) {
+            return Set.of(normalized);
+        }
+
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,55 @@
+package hello.board.service.index;
+
+import hello.board.dto.service.search.Snippet;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cuts a short window around the first case-insensitive keyword match.
+ * Works on one result page at a time: titles, or the stored excerpts of the rows being shown.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SnippetExtractor {
+
+    private static final int RADIUS = 40;
+    private static final String ELLIPSIS = "...";
+
+    public static Snippet extract(String text, String keyword) {
+        if (!StringUtils.hasText(text)) {
+            return null;
+        }
+
+        final String trimmed = keyword == null ? "" : keyword.trim();
+        final int at = trimmed.isEmpty() ? -1 : indexOfIgnoreCase(text, trimmed);
+
+        if (at < 0) {
+            return Snippet.lead(abbreviate(text));
+        }
+
+        final int end = at + trimmed.length();
+        final int from = Math.max(at - RADIUS, 0);
+        final int to = Math.min(end + RADIUS, text.length());
+
+        return new Snippet(
+                (from > 0 ? ELLIPSIS : "") + text.substring(from, at),
+                text.substring(at, end),
+                text.substring(end, to) + (to < text.length() ? ELLIPSIS : "")
+        );
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() <= RADIUS * 2
+                ? text
+                : text.substring(0, RADIUS * 2) + ELLIPSIS;
+    }
+
+    private static int indexOfIgnoreCase(String text, String keyword) {
+        for (int i = 0; i + keyword.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
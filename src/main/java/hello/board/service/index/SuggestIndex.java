@@ -0,0 +1,198 @@
+package hello.board.service.index;
+
+import hello.board.dto.service.search.Suggestions;
+import hello.board.service.event.ArticleEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix completions for the search box, served from sorted in-memory keys.
+ * <p>
+ * Titles are keyed from the start of each of their first {@link #MAX_TITLE_WORDS} words, so a prefix
+ * matches any word in the title; author names are keyed as a whole. A lookup is a range scan over the
+ * sorted keys and never touches the database.
+ */
+@Component
+public class SuggestIndex {
+
+    public static final int MAX_SIZE = 20;
+
+    private static final int MAX_TITLE_WORDS = 10;
+    private static final int MAX_PREFIX_LENGTH = 50;
+
+    private final NavigableMap<String, Set<Long>> titleKeys = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Set<Long>> nameKeys = new ConcurrentSkipListMap<>();
+
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    private final LiveWrites liveTitles = new LiveWrites();
+    private final LiveWrites liveNames = new LiveWrites();
+
+    public synchronized void putTitle(Long articleId, String title) {
+        liveTitles.record(articleId);
+        replaceTitle(articleId, title);
+    }
+
+    public synchronized void removeTitle(Long articleId) {
+        liveTitles.record(articleId);
+        dropTitle(articleId);
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Saved event) {
+        putTitle(event.articleId(), event.title());
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Updated event) {
+        putTitle(event.articleId(), event.title());
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        removeTitle(event.articleId());
+    }
+
+    /**
+     * Adds a title read by the startup loader, unless a live write for the article has happened since the load began.
+     */
+    public synchronized void loadTitle(Long articleId, String title) {
+        if (!liveTitles.isWritten(articleId)) {
+            replaceTitle(articleId, title);
+        }
+    }
+
+    public void markTitlesLoaded() {
+        liveTitles.finish();
+    }
+
+    public synchronized void putName(Long userId, String name) {
+        liveNames.record(userId);
+        replaceName(userId, name);
+    }
+
+    /**
+     * Adds a name read by the startup loader, unless a live write for the user has happened since the load began.
+     */
+    public synchronized void loadName(Long userId, String name) {
+        if (!liveNames.isWritten(userId)) {
+            replaceName(userId, name);
+        }
+    }
+
+    public void markNamesLoaded() {
+        liveNames.finish();
+    }
+
+    public Suggestions suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank() || prefix.length() > MAX_PREFIX_LENGTH) {
+            return Suggestions.empty();
+        }
+
+        final String normalized = normalize(prefix.strip());
+        final int limit = Math.min(Math.max(size, 0), MAX_SIZE);
+
+        return new Suggestions(
+                complete(titleKeys, titles, normalized, limit),
+                complete(nameKeys, names, normalized, limit)
+        );
+    }
+
+    public int size() {
+        return titles.size() + names.size();
+    }
+
+    /* ################################################## */
+
+    private void replaceTitle(Long articleId, String title) {
+        dropTitle(articleId);
+
+        titles.put(articleId, title);
+        titleKeysOf(title).forEach(key -> add(titleKeys, key, articleId));
+    }
+
+    private void dropTitle(Long articleId) {
+        String title = titles.remove(articleId);
+
+        if (title != null) {
+            titleKeysOf(title).forEach(key -> remove(titleKeys, key, articleId));
+        }
+    }
+
+    private void replaceName(Long userId, String name) {
+        String previous = names.put(userId, name);
+
+        if (previous != null) {
+            remove(nameKeys, normalize(previous), userId);
+        }
+        add(nameKeys, normalize(name), userId);
+    }
+
+    private static List<String> complete(NavigableMap<String, Set<Long>> keys, Map<Long, String> values, String prefix, int limit) {
+        Set<String> completions = new LinkedHashSet<>();
+
+        for (Set<Long> ids : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (Long id : ids) {
+                String value = values.get(id);
+
+                if (value != null) {
+                    completions.add(value);
+                }
+                if (completions.size() >= limit) {
+                    return List.copyOf(completions);
+                }
+            }
+        }
+
+        return List.copyOf(completions);
+    }
+
+    private static Set<String> titleKeysOf(String title) {
+        final String normalized = normalize(title.strip());
+        Set<String> keys = new HashSet<>();
+
+        int start = 0;
+        for (int word = 0; word < MAX_TITLE_WORDS && start < normalized.length(); word++) {
+            keys.add(normalized.substring(start));
+
+            int space = normalized.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+            while (start < normalized.length() && normalized.charAt(start) == ' ') {
+                start++;
+            }
+        }
+
+        return keys;
+    }
+
+    private static void add(NavigableMap<String, Set<Long>> keys, String key, Long id) {
+        keys.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    private static void remove(NavigableMap<String, Set<Long>> keys, String key, Long id) {
+        Set<Long> ids = keys.get(key);
+
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                keys.remove(key);
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,134 @@
+package hello.board.service.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * User names keyed by the same n-grams as {@link ArticleTextIndex}, so a search looks up the keyword's
+ * smallest posting list and checks only those names instead of scanning every user.
+ */
+@Component
+public class UserNameDirectory {
+
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final LiveWrites liveWrites = new LiveWrites();
+
+    private final int maxCandidates;
+
+    private volatile boolean ready = false;
+
+    public UserNameDirectory(@Value("${search.index.max-candidates}") int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    public synchronized void put(Long id, String name) {
+        liveWrites.record(id);
+        replace(id, name);
+    }
+
+    public synchronized void remove(Long id) {
+        liveWrites.record(id);
+        drop(id);
+    }
+
+    /**
+     * Adds a name read by the startup loader, unless a live write for the user has happened since the load began.
+     */
+    public synchronized void load(Long id, String name) {
+        if (!liveWrites.isWritten(id)) {
+            replace(id, name);
+        }
+    }
+
+    public void markReady() {
+        ready = true;
+        liveWrites.finish();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public Optional<Set<Long>> findIds(String keyword) {
+        if (!ready || keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+
+        final String normalized = normalize(keyword.trim());
+        Set<Long> ids = new HashSet<>();
+
+        for (Long id : candidatesOf(normalized)) {
+            String name = names.get(id);
+
+            if (name != null && name.contains(normalized)) {
+                ids.add(id);
+
+                if (ids.size() > maxCandidates) {
+                    return Optional.empty();
+                }
+            }
+        }
+
+        return Optional.of(ids);
+    }
+
+    /* ################################################## */
+
+    private void replace(Long id, String name) {
+        drop(id);
+
+        final String normalized = normalize(name);
+        names.put(id, normalized);
+        NgramTokenizer.tokenize(normalized).forEach(token -> postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(id));
+    }
+
+    private void drop(Long id) {
+        String name = names.remove(id);
+
+        if (name != null) {
+            NgramTokenizer.tokenize(name).forEach(token -> postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+    }
+
+    /**
+     * The smallest posting list among the keyword's n-grams. N-grams only prove a name may contain the
+     * keyword, so callers still check each name.
+     */
+    private Set<Long> candidatesOf(String keyword) {
+        List<Set<Long>> lists = new ArrayList<>();
+
+        for (String token : NgramTokenizer.queryTokens(keyword)) {
+            Set<Long> posting = postings.get(token);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+
+        return lists.stream()
+                .min(Comparator.comparingInt(Set::size))
+                .orElse(Set.of());
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
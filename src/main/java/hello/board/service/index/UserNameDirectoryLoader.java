@@ -0,0 +1,47 @@
+package hello.board.service.index;
+
+import hello.board.dto.service.search.UserNameDto;
+import hello.board.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNameDirectoryLoader {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final UserNameDirectory userNameDirectory;
+    private final SuggestIndex suggestIndex;
+
+    /**
+     * Users renamed after commit while this runs keep their live name; the batch read may be older.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<UserNameDto> batch;
+
+        do {
+            batch = userRepository.findNamesAfter(lastId, PageRequest.ofSize(BATCH_SIZE));
+
+            for (UserNameDto user : batch) {
+                userNameDirectory.load(user.getId(), user.getName());
+                suggestIndex.loadName(user.getId(), user.getName());
+                lastId = user.getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        userNameDirectory.markReady();
+        suggestIndex.markNamesLoaded();
+        log.info("User name directory loaded: {} users", userNameDirectory.size());
+    }
+}
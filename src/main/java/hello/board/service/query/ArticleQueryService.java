@@ -1,36 +1,150 @@
 package hello.board.service.query;
 
 import hello.board.domain.Article;
+import hello.board.dto.service.ArticleExportDto;
+import hello.board.dto.service.search.ArticleListDto;
 import hello.board.dto.service.search.ArticleSearchCond;
-import hello.board.dto.service.search.ArticleSearchDto;
+import hello.board.dto.service.search.ArticleSearchType;
+import hello.board.dto.service.search.PageTotal;
+import hello.board.dto.service.search.Suggestions;
+import hello.board.dto.service.search.TrendingWindow;
 import hello.board.exception.FailToFindEntityException;
 import hello.board.repository.ArticleRepository;
+import hello.board.service.cache.ArticleListCache;
+import hello.board.service.cache.ArticleSearchCache;
+import hello.board.service.cache.PageTotalCache;
+import hello.board.service.counter.BoardCounter;
+import hello.board.service.index.ArticleTextIndex;
+import hello.board.service.index.SnippetExtractor;
+import hello.board.service.index.SuggestIndex;
+import hello.board.service.index.UserNameDirectory;
+import hello.board.service.ranking.TrendingRanking;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ArticleQueryService {
 
     private final ArticleRepository articleRepository;
+    private final ArticleTextIndex articleTextIndex;
+    private final UserNameDirectory userNameDirectory;
+    private final BoardCounter boardCounter;
+    private final ArticleListCache articleListCache;
+    private final ArticleSearchCache articleSearchCache;
+    private final CountQueryExecutor countQueryExecutor;
+    private final PageTotalCache pageTotalCache;
+    private final TrendingRanking trendingRanking;
+    private final SuggestIndex suggestIndex;
 
     public Article findById(Long id) {
         return articleRepository.findById(id)
                 .orElseThrow(() -> FailToFindEntityException.of("Article"));
     }
 
-    public Page<ArticleSearchDto> search(ArticleSearchCond cond, Pageable pageable) {
-        return isConditionEmpty(cond)
-                ? articleRepository.search(pageable)
-                : articleRepository.search(cond, pageable);
+    /**
+     * Rejects a page past the last one before its content query runs.
+     * The condition is narrowed once; the range check, the count and the content query all use that result.
+     */
+    public Page<ArticleListDto> searchList(ArticleSearchCond cond, Pageable pageable) {
+        if (isDefaultListing(cond)) {
+            return searchList(pageable);
+        }
+
+        return articleSearchCache.get(cond, pageable, () -> narrow(cond)
+                .map(narrowed -> searchListWithTotal(cond, pageable, () -> articleRepository.countList(narrowed),
+                        total -> articleRepository.searchList(narrowed, pageable, total)))
+                .map(page -> page.map(article -> highlight(article, cond)))
+                .orElseGet(() -> {
+                    PageRange.check(pageable, 0L);
+                    return Page.empty(pageable);
+                }));
+    }
+
+    public Page<ArticleListDto> searchList(Pageable pageable) {
+        return articleListCache.get(pageable, () -> {
+            OptionalLong total = boardCounter.articleCount();
+
+            if (total.isPresent()) {
+                PageRange.check(pageable, total.getAsLong());
+                return articleRepository.searchList(pageable, PageTotal.known(total.getAsLong()));
+            }
+
+            final ArticleSearchCond all = ArticleSearchCond.empty();
+            return searchListWithTotal(all, pageable, () -> articleRepository.countList(all),
+                    count -> articleRepository.searchList(pageable, count));
+        });
+    }
+
+    public Slice<ArticleListDto> sliceList(ArticleSearchCond cond, Pageable pageable) {
+        if (isDefaultListing(cond)) {
+            return articleRepository.sliceList(pageable);
+        }
+
+        return narrow(cond)
+                .map(narrowed -> articleRepository.sliceList(narrowed, pageable))
+                .map(slice -> slice.map(article -> highlight(article, cond)))
+                .orElseGet(() -> new SliceImpl<>(List.of(), pageable, false));
+    }
+
+    public List<ArticleListDto> findPopular(TrendingWindow window, int size) {
+        List<Long> ids = trendingRanking.top(window, size);
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleListDto> articles = articleRepository.findListByIds(ids).stream()
+                .collect(Collectors.toMap(ArticleListDto::getId, Function.identity()));
+
+        return ids.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Served from memory only; runs outside a transaction so no connection is taken per keystroke.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Suggestions suggest(String prefix, int size) {
+        return suggestIndex.suggest(prefix, size);
+    }
+
+    public Slice<ArticleListDto> searchBefore(ArticleSearchCond cond, Long before, int size) {
+        if (isConditionEmpty(cond)) {
+            return articleRepository.searchBefore(before, size);
+        }
+
+        return narrow(cond)
+                .map(narrowed -> articleRepository.searchBefore(narrowed, before, size))
+                .orElseGet(() -> new SliceImpl<>(List.of(), PageRequest.ofSize(size), false));
     }
 
-    public Page<ArticleSearchDto> search(Pageable pageable) {
-        return articleRepository.search(pageable);
+    public void exportAll(Consumer<ArticleExportDto> sink) {
+        try (Stream<ArticleExportDto> articles = articleRepository.streamForExport()) {
+            articles.forEach(sink);
+        }
     }
 
     public Article findWithComments(Long id) {
@@ -41,6 +155,116 @@ public class ArticleQueryService {
     /* ################################################## */
 
     private static boolean isConditionEmpty(ArticleSearchCond cond) {
-        return cond == null || cond.isEmpty();
+        return cond == null || (cond.isEmpty() && !cond.hasDateRange());
+    }
+
+    private static boolean isDefaultListing(ArticleSearchCond cond) {
+        return isConditionEmpty(cond) && (cond == null || cond.isLatestFirst());
+    }
+
+    /**
+     * Content matches are cut from the stored excerpt; a match past it shows the excerpt's lead without a highlight.
+     */
+    private static ArticleListDto highlight(ArticleListDto article, ArticleSearchCond cond) {
+        if (cond.isEmpty()) {
+            return article;
+        }
+
+        String text = switch (cond.getType()) {
+            case TITLE -> article.getTitle();
+            case CONTENT, TITLE_AND_CONTENT -> article.getExcerpt();
+            case AUTHOR -> null;
+        };
+
+        return article.withSnippet(SnippetExtractor.extract(text, cond.getQuery().firstTerm()));
+    }
+
+    /**
+     * A deep page with no known total is counted first so it can be range-checked; the first page
+     * always exists, so it is counted only if its content fills the page.
+     */
+    private Page<ArticleListDto> searchListWithTotal(ArticleSearchCond cond, Pageable pageable, Supplier<Long> countQuery,
+                                                     Function<PageTotal, Page<ArticleListDto>> query) {
+        final Object key = PageTotalCache.articleKey(cond);
+        OptionalLong cached = pageTotalCache.find(key);
+
+        if (cached.isPresent()) {
+            PageRange.check(pageable, cached.getAsLong());
+            return query.apply(PageTotal.known(cached.getAsLong()));
+        }
+
+        if (pageable.isPaged() && pageable.getPageNumber() > 0) {
+            final long total = countQuery.get();
+            pageTotalCache.put(key, total);
+
+            PageRange.check(pageable, total);
+            return query.apply(PageTotal.counted(total));
+        }
+
+        Page<ArticleListDto> page = query.apply(PageTotal.countOnDemand(countQueryExecutor.submit(countQuery)));
+        pageTotalCache.put(key, page.getTotalElements());
+
+        return page;
+    }
+
+    private Optional<ArticleSearchCond> narrow(ArticleSearchCond cond) {
+        return resolveDateRange(cond).flatMap(this::narrowByKeyword);
+    }
+
+    /**
+     * Ids grow with creation time, so a date range becomes a primary key range:
+     * one indexed lookup per bound, after which every query scans only that id range.
+     */
+    private Optional<ArticleSearchCond> resolveDateRange(ArticleSearchCond cond) {
+        if (!cond.hasDateRange()) {
+            return Optional.of(cond);
+        }
+
+        Long minId = null;
+        if (cond.getFrom() != null) {
+            minId = articleRepository.findFirstIdCreatedFrom(cond.getFrom().atStartOfDay());
+            if (minId == null) {
+                return Optional.empty();
+            }
+        }
+
+        Long maxId = null;
+        if (cond.getTo() != null) {
+            maxId = articleRepository.findLastIdCreatedBefore(cond.getTo().plusDays(1).atStartOfDay());
+            if (maxId == null) {
+                return Optional.empty();
+            }
+        }
+
+        return minId != null && maxId != null && minId > maxId
+                ? Optional.empty()
+                : Optional.of(cond.withIdRange(minId, maxId));
+    }
+
+    private Optional<ArticleSearchCond> narrowByKeyword(ArticleSearchCond cond) {
+        if (cond.isEmpty()) {
+            return Optional.of(cond);
+        }
+
+        if (cond.getType() == ArticleSearchType.AUTHOR) {
+            Optional<Set<Long>> authorIds = userNameDirectory.findIds(cond.getKeyword());
+
+            return hasNoMatch(authorIds)
+                    ? Optional.empty()
+                    : Optional.of(authorIds.map(cond::withAuthorIds).orElse(cond));
+        }
+
+        Optional<Set<Long>> candidateIds = articleTextIndex.findCandidates(cond)
+                .map(ids -> ids.stream()
+                        .filter(cond::isInIdRange)
+                        .collect(Collectors.toSet()));
+
+        return hasNoMatch(candidateIds)
+                ? Optional.empty()
+                : Optional.of(candidateIds.map(cond::withCandidateIds).orElse(cond));
+    }
+
+    private static boolean hasNoMatch(Optional<Set<Long>> ids) {
+        return ids.map(Set::isEmpty).orElse(false);
     }
 }
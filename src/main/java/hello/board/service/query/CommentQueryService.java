@@ -4,12 +4,20 @@ import hello.board.domain.Comment;
 import hello.board.exception.FailToFindEntityException;
 import hello.board.repository.ArticleRepository;
 import hello.board.repository.CommentRepository;
+import hello.board.service.cache.PageTotalCache;
+import hello.board.service.counter.BoardCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -17,6 +25,9 @@ public class CommentQueryService {
 
     private final ArticleRepository articleRepository;
     private final CommentRepository commentRepository;
+    private final BoardCounter boardCounter;
+    private final CountQueryExecutor countQueryExecutor;
+    private final PageTotalCache pageTotalCache;
 
     public Comment findById(Long id) {
         return commentRepository.findById(id)
@@ -36,13 +47,62 @@ public class CommentQueryService {
         if (isWrongArticleId(articleId)) {
             throw new IllegalArgumentException("wrong article id: " + articleId);
         }
-        return commentRepository.findByArticleId(articleId, pageable);
+
+        final Object key = PageTotalCache.commentKey(articleId);
+        OptionalLong known = knownTotal(articleId);
+
+        LongSupplier total = known.isPresent()
+                ? known::getAsLong
+                : countQueryExecutor.submit(() -> commentRepository.countByArticleId(articleId));
+
+        List<Comment> comments = commentRepository.findListByArticleId(articleId, pageable);
+        Page<Comment> page = PageableExecutionUtils.getPage(comments, pageable, total);
+
+        if (known.isEmpty()) {
+            pageTotalCache.put(key, page.getTotalElements());
+        }
+
+        return page;
+    }
+
+    /**
+     * Rejects a comment page past the last one before the comments are fetched.
+     * A missing article is reported as such rather than as an empty comment list.
+     */
+    public void checkPageRange(Long articleId, Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() == 0) {
+            return;
+        }
+
+        long total = boardCounter.commentCount(articleId)
+                .orElseGet(() -> pageTotalCache.get(PageTotalCache.commentKey(articleId), () -> commentRepository.countByArticleId(articleId)));
+
+        if (pageable.getOffset() >= total && isWrongArticleId(articleId)) {
+            throw FailToFindEntityException.of("Article");
+        }
+
+        PageRange.check(pageable, total);
+    }
+
+    public Slice<Comment> sliceByArticleId(Long articleId, Pageable pageable) {
+        if (isWrongArticleId(articleId)) {
+            throw new IllegalArgumentException("wrong article id: " + articleId);
+        }
+        return commentRepository.findSliceByArticleId(articleId, pageable);
     }
 
 
 
     /* ################################################## */
 
+    private OptionalLong knownTotal(Long articleId) {
+        OptionalLong counted = boardCounter.commentCount(articleId);
+
+        return counted.isPresent()
+                ? counted
+                : pageTotalCache.find(PageTotalCache.commentKey(articleId));
+    }
+
     private boolean isWrongArticleId(Long articleId) {
         return !articleRepository.existsById(articleId);
     }
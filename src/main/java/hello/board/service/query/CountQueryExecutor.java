@@ -0,0 +1,136 @@
+package hello.board.service.query;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs page count queries on a small bounded pool, each in its own read-only transaction.
+ * <p>
+ * A count is submitted only when the page asks for its total, so a page that is not full never counts.
+ * The caller still holds its own connection while it waits, so it waits at most {@code timeout}
+ * and then counts on the caller thread; a worker stuck in {@code getConnection} can never starve the pool.
+ * With {@code threads <= 0}, or when the queue is full, the count runs on the caller thread as before.
+ */
+@Slf4j
+@Component
+public class CountQueryExecutor {
+
+    private final ExecutorService executor;
+    private final TaskDecorator taskDecorator;
+    private final TransactionTemplate readOnly;
+    private final long timeoutMillis;
+
+    @Autowired
+    public CountQueryExecutor(@Value("${search.count-executor.threads}") int threads,
+                              @Value("${search.count-executor.queue-capacity}") int queueCapacity,
+                              @Value("${search.count-executor.timeout}") Duration timeout,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              ObjectProvider<TaskDecorator> taskDecorator) {
+        this(threads, queueCapacity, timeout, transactionManager, meterRegistry, taskDecorator.getIfUnique(() -> task -> task));
+    }
+
+    /**
+     * {@code taskDecorator} wraps each count on the submitting thread, e.g. to carry the request's replica routing pin.
+     */
+    CountQueryExecutor(int threads, int queueCapacity, Duration timeout,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       TaskDecorator taskDecorator) {
+
+        this.taskDecorator = taskDecorator;
+        this.timeoutMillis = timeout.toMillis();
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.executor = threads <= 0
+                ? null
+                : ExecutorServiceMetrics.monitor(meterRegistry, newPool(threads, queueCapacity), "board.count");
+    }
+
+    /**
+     * Returns a supplier that runs {@code countQuery} when it is first asked for the total.
+     * The count query must go through repositories (shared EntityManager), not a caller-bound persistence context.
+     */
+    public LongSupplier submit(Supplier<Long> countQuery) {
+        if (executor == null) {
+            return () -> countQuery.get();
+        }
+
+        return () -> count(countQuery);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private long count(Supplier<Long> countQuery) {
+        final CompletableFuture<Long> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> readOnly.execute(status -> countQuery.get()),
+                    task -> executor.execute(taskDecorator.decorate(task)));
+        } catch (RejectedExecutionException e) {
+            log.debug("count executor saturated, counting on caller thread");
+            return countQuery.get();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.debug("count not finished within {}ms, counting on caller thread", timeoutMillis);
+            return countQuery.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return countQuery.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static ThreadPoolExecutor newPool(int threads, int queueCapacity) {
+        final AtomicInteger sequence = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "count-query-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+}
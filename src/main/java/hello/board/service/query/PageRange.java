@@ -0,0 +1,16 @@
+package hello.board.service.query;
+
+import hello.board.exception.WrongPageRequestException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class PageRange {
+
+    static void check(Pageable pageable, long total) {
+        if (pageable.isPaged() && pageable.getPageNumber() > 0 && pageable.getOffset() >= total) {
+            throw WrongPageRequestException.of(pageable.getPageNumber() + 1, pageable.getPageSize());
+        }
+    }
+}
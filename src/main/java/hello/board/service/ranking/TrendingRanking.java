@@ -0,0 +1,171 @@
+package hello.board.service.ranking;
+
+import hello.board.dto.service.search.TrendingWindow;
+import hello.board.service.event.ArticleEvent;
+import hello.board.service.event.CommentEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory popularity per window, fed by views and comments.
+ * <p>
+ * Each window keeps an exponentially decayed score per article (mean lifetime = window length),
+ * updated in O(1) per event. The top list is rebuilt from a bounded heap at most once per refresh
+ * interval and served from that snapshot in between; nothing here queries the database.
+ */
+@Component
+public class TrendingRanking {
+
+    public static final int MAX_SIZE = 50;
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 3.0;
+    private static final double MIN_SCORE = 0.01;
+
+    private final Map<TrendingWindow, Map<Long, Score>> scores = new EnumMap<>(TrendingWindow.class);
+    private final Map<TrendingWindow, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final int maxTracked;
+    private final long refreshNanos;
+    private final LongSupplier clock;
+
+    @Autowired
+    public TrendingRanking(@Value("${ranking.trending.max-tracked}") int maxTracked,
+                           @Value("${ranking.trending.refresh}") Duration refresh) {
+        this(maxTracked, refresh, System::nanoTime);
+    }
+
+    TrendingRanking(int maxTracked, Duration refresh, LongSupplier clock) {
+        this.maxTracked = maxTracked;
+        this.refreshNanos = refresh.toNanos();
+        this.clock = clock;
+
+        for (TrendingWindow window : TrendingWindow.values()) {
+            scores.put(window, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void viewed(Long articleId) {
+        record(articleId, VIEW_WEIGHT);
+    }
+
+    public void commented(Long articleId) {
+        record(articleId, COMMENT_WEIGHT);
+    }
+
+    public void remove(Long articleId) {
+        scores.values().forEach(windowScores -> windowScores.remove(articleId));
+        snapshots.clear();
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Viewed event) {
+        viewed(event.articleId());
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(ArticleEvent.Deleted event) {
+        remove(event.articleId());
+    }
+
+    @Order(ArticleEvent.SOURCE_ORDER)
+    @TransactionalEventListener
+    public void on(CommentEvent.Saved event) {
+        commented(event.articleId());
+    }
+
+    /**
+     * Ids of the most popular articles in the window, most popular first. At most {@link #MAX_SIZE}.
+     */
+    public List<Long> top(TrendingWindow window, int size) {
+        final long now = clock.getAsLong();
+
+        Snapshot snapshot = snapshots.get(window);
+        if (snapshot == null || now - snapshot.takenAt() >= refreshNanos) {
+            snapshot = new Snapshot(rank(window, now), now);
+            snapshots.put(window, snapshot);
+        }
+
+        List<Long> ids = snapshot.ids();
+        return ids.subList(0, Math.min(Math.max(size, 0), ids.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${ranking.trending.prune-delay}")
+    public void prune() {
+        final long now = clock.getAsLong();
+
+        scores.forEach((window, windowScores) -> {
+            final long lifetime = window.getDuration().toNanos();
+
+            windowScores.entrySet().removeIf(entry -> entry.getValue().valueAt(now, lifetime) < MIN_SCORE);
+
+            int overflow = windowScores.size() - maxTracked;
+            if (overflow > 0) {
+                windowScores.entrySet().stream()
+                        .sorted(Comparator.comparingDouble(entry -> entry.getValue().valueAt(now, lifetime)))
+                        .limit(overflow)
+                        .map(Map.Entry::getKey)
+                        .toList()
+                        .forEach(windowScores::remove);
+            }
+        });
+    }
+
+    /* ################################################## */
+
+    private void record(Long articleId, double weight) {
+        final long now = clock.getAsLong();
+
+        scores.forEach((window, windowScores) -> {
+            final long lifetime = window.getDuration().toNanos();
+
+            windowScores.compute(articleId, (id, score) -> score == null
+                    ? new Score(weight, now)
+                    : new Score(score.valueAt(now, lifetime) + weight, now));
+        });
+    }
+
+    private List<Long> rank(TrendingWindow window, long now) {
+        final long lifetime = window.getDuration().toNanos();
+        final PriorityQueue<Ranked> heap = new PriorityQueue<>(MAX_SIZE + 1, Comparator.comparingDouble(Ranked::score));
+
+        scores.get(window).forEach((id, score) -> {
+            heap.offer(new Ranked(id, score.valueAt(now, lifetime)));
+            if (heap.size() > MAX_SIZE) {
+                heap.poll();
+            }
+        });
+
+        List<Ranked> ranked = new ArrayList<>(heap);
+        ranked.sort(Comparator.comparingDouble(Ranked::score).reversed()
+                .thenComparing(Ranked::id, Comparator.reverseOrder()));
+
+        return ranked.stream()
+                .map(Ranked::id)
+                .toList();
+    }
+
+    private record Score(double value, long at) {
+
+        double valueAt(long now, long lifetime) {
+            return value * Math.exp(-(double) (now - at) / lifetime);
+        }
+    }
+
+    private record Ranked(Long id, double score) {
+    }
+
+    private record Snapshot(List<Long> ids, long takenAt) {
+    }
+}
@@ -2,6 +2,7 @@ package hello.board.util;
 
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +43,14 @@ public final class ViewPageNumbers {
         return ViewPageNumbers.build(page.getNumber(), page.getSize(), page.getTotalPages());
     }
 
+    public static <T> ViewPageNumbers of(Slice<T> slice) {
+        final int currentPage = slice.getNumber() + 1;
+        final int prevPage = Math.max(currentPage - 1, 1);
+        final int nextPage = slice.hasNext() ? currentPage + 1 : currentPage;
+
+        return new ViewPageNumbers(prevPage, List.of(currentPage), nextPage);
+    }
+
     private static int getStartPage(int defaultPrevPage) {
         return defaultPrevPage + 1;
     }
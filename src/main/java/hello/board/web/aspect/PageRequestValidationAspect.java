@@ -8,6 +8,7 @@ import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.core.annotation.Order;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.ui.Model;
 import org.springframework.util.StringUtils;
 
@@ -38,6 +39,8 @@ public class PageRequestValidationAspect {
 
                     if (attribute instanceof Page<?> result) {
                         filterOutMaliciousPageRequest(requestPage, validPage.pageSize(), result);
+                    } else if (attribute instanceof Slice<?> result) {
+                        filterOutMaliciousSliceRequest(requestPage, validPage.pageSize(), result);
                     }
 
                 } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
@@ -86,4 +89,10 @@ public class PageRequestValidationAspect {
             throw WrongPageRequestException.of(requestPage, pageSize);
         }
     }
+
+    private static <T> void filterOutMaliciousSliceRequest(int requestPage, int pageSize, Slice<T> result) {
+        if (result.isEmpty() && requestPage > 1) {
+            throw WrongPageRequestException.of(requestPage, pageSize);
+        }
+    }
 }
@@ -30,8 +30,8 @@ public class SecurityConfig {
             return http
                     .csrf(AbstractHttpConfigurer::disable)
                     .authorizeHttpRequests(request -> request
-                            .dispatcherTypeMatchers(DispatcherType.FORWARD).permitAll()
-                            .requestMatchers(antMatcher("/"),antMatcher("/board"), antMatcher("/join"), antMatcher("/login"), antMatcher("/logout"),
+                            .dispatcherTypeMatchers(DispatcherType.FORWARD, DispatcherType.ASYNC).permitAll()
+                            .requestMatchers(antMatcher("/"),antMatcher("/board"), antMatcher("/board/popular"), antMatcher("/api/articles/suggest"), antMatcher("/join"), antMatcher("/login"), antMatcher("/logout"),
                                     antMatcher("/actuator/**"), antMatcher("/css/**"), antMatcher("/js/**"), antMatcher("/*.ico"), antMatcher("/error")).permitAll()
                             .anyRequest().authenticated()
                     )
@@ -1,8 +1,11 @@
 package hello.board.web.controller.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import hello.board.domain.Article;
+import hello.board.dto.service.ArticleServiceDto.LookUp;
 import hello.board.dto.service.ArticleServiceDto.Save;
 import hello.board.dto.service.ArticleServiceDto.Update;
+import hello.board.dto.service.ArticleServiceDto.Viewer;
 import hello.board.dto.service.search.ArticleSearchCond;
 import hello.board.service.command.ArticleService;
 import hello.board.service.query.ArticleQueryService;
@@ -10,14 +13,24 @@ import hello.board.web.annotation.Login;
 import hello.board.web.annotation.RestValidBinding;
 import hello.board.web.dtoresolver.ArticleServiceDtoResolver;
 import hello.board.web.user.LoginInfo;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 import static hello.board.dto.api.ArticleApiDto.*;
 
@@ -25,10 +38,13 @@ import static hello.board.dto.api.ArticleApiDto.*;
 @RequiredArgsConstructor
 public class ArticleApiController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final ArticleService articleService;
     private final ArticleQueryService articleQueryService;
 
     private final ArticleServiceDtoResolver dtoResolver;
+    private final ObjectMapper objectMapper;
 
     @RestValidBinding
     @ResponseStatus(HttpStatus.CREATED)
@@ -45,15 +61,72 @@ public class ArticleApiController {
     public Page<FindListResponse> getArticles(@Valid @ModelAttribute FindRequest request, BindingResult br) {
         Pageable pageable = dtoResolver.toPageable(request);
         ArticleSearchCond cond = dtoResolver.toSearchCond(request);
-        return articleQueryService.search(cond, pageable)
+        return articleQueryService.searchList(cond, pageable)
                 .map(FindListResponse::of);
     }
 
+    @RestValidBinding
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/api/articles", params = "slice=true")
+    public Slice<FindListResponse> getArticleSlice(@Valid @ModelAttribute FindRequest request, BindingResult br) {
+        Pageable pageable = dtoResolver.toPageable(request);
+        ArticleSearchCond cond = dtoResolver.toSearchCond(request);
+        return articleQueryService.sliceList(cond, pageable)
+                .map(FindListResponse::of);
+    }
+
+    @RestValidBinding
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/api/articles", params = "before")
+    public Slice<FindListResponse> getArticlesBefore(@Valid @ModelAttribute CursorRequest request, BindingResult br) {
+        ArticleSearchCond cond = dtoResolver.toSearchCond(request);
+        return articleQueryService.searchBefore(cond, request.getBefore(), request.getSize())
+                .map(FindListResponse::of);
+    }
+
+    /**
+     * Streams on an async request thread, bounded by {@code spring.mvc.async.request-timeout}.
+     */
+    @GetMapping(value = "/api/articles/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportArticles() {
+        StreamingResponseBody body = out -> {
+            try {
+                articleQueryService.exportAll(article -> writeLine(out, ExportResponse.of(article)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    @RestValidBinding
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/api/articles/popular")
+    public List<FindListResponse> getPopularArticles(@Valid @ModelAttribute PopularRequest request, BindingResult br) {
+        return articleQueryService.findPopular(request.getWindow(), request.getSize()).stream()
+                .map(FindListResponse::of)
+                .toList();
+    }
+
+    @RestValidBinding
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/api/articles/suggest")
+    public SuggestResponse suggest(@Valid @ModelAttribute SuggestRequest request, BindingResult br) {
+        return SuggestResponse.of(articleQueryService.suggest(request.getQ(), request.getSize()));
+    }
+
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/api/articles/{id}")
-    public FindResponse getArticle(@PathVariable Long id) {
-        Article article = articleService.lookUp(id);
-        return FindResponse.of(article);
+    public FindResponse getArticle(@PathVariable Long id, @Login LoginInfo loginInfo, HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+
+        Viewer viewer = Viewer.of(loginInfo == null ? null : loginInfo.getUserId(), session == null ? null : session.getId());
+        LookUp lookUp = articleService.lookUp(id, viewer);
+        return FindResponse.of(lookUp);
     }
 
     @RestValidBinding
@@ -71,4 +144,13 @@ public class ArticleApiController {
         articleService.delete(id, loginInfo.getUserId());
         return ResponseEntity.ok().build();
     }
+
+    private void writeLine(OutputStream out, ExportResponse line) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
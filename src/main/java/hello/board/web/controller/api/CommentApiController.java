@@ -12,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -41,10 +42,21 @@ public class CommentApiController {
     @GetMapping("/api/articles/{articleId}/comments")
     public Page<FindResponse> getComments(@Valid @ModelAttribute PageRequest pageRequest, BindingResult br, @PathVariable Long articleId) {
         Pageable pageable = dtoResolver.toPageable(pageRequest);
+        commentQueryService.checkPageRange(articleId, pageable);
+
         return commentQueryService.findByArticleId(articleId, pageable)
                 .map(FindResponse::of);
     }
 
+    @RestValidBinding
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/api/articles/{articleId}/comments", params = "slice=true")
+    public Slice<FindResponse> getCommentSlice(@Valid @ModelAttribute PageRequest pageRequest, BindingResult br, @PathVariable Long articleId) {
+        Pageable pageable = dtoResolver.toPageable(pageRequest);
+        return commentQueryService.sliceByArticleId(articleId, pageable)
+                .map(FindResponse::of);
+    }
+
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/api/articles/{articleId}/comments/{commentId}")
     public FindResponse getComment(@PathVariable Long articleId, @PathVariable Long commentId) {
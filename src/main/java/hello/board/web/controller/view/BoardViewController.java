@@ -4,10 +4,15 @@ import hello.board.domain.Article;
 import hello.board.domain.Comment;
 import hello.board.dto.service.search.ArticleSearchCond;
 import hello.board.dto.service.search.ArticleSearchType;
+import hello.board.dto.service.search.ArticleSortType;
+import hello.board.dto.service.search.TrendingWindow;
 import hello.board.dto.view.BoardRequest.ArticleListRequest;
 import hello.board.dto.view.BoardRequest.ArticleRequest;
+import hello.board.dto.view.BoardRequest.PopularListRequest;
 import hello.board.dto.view.CommentViewResponse;
 import hello.board.dto.view.UserViewResponse;
+import hello.board.service.cache.ArticleFragmentCache;
+import hello.board.service.cache.ArticleFragmentCache.Fragment;
 import hello.board.service.command.ArticleService;
 import hello.board.service.query.ArticleQueryService;
 import hello.board.service.query.CommentQueryService;
@@ -16,11 +21,16 @@ import hello.board.web.annotation.Login;
 import hello.board.web.annotation.ValidBinding;
 import hello.board.web.annotation.ValidPage;
 import hello.board.web.dtoresolver.ArticleServiceDtoResolver;
+import hello.board.web.service.FragmentRenderer;
 import hello.board.web.user.LoginInfo;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -29,17 +39,26 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+import java.util.Optional;
+
 import static hello.board.dto.service.ArticleServiceDto.LookUp;
+import static hello.board.dto.service.ArticleServiceDto.Viewer;
 import static hello.board.dto.view.ArticleResponse.*;
 
 @Controller
 @RequiredArgsConstructor
 public class BoardViewController {
 
+    private static final int POPULAR_SIZE = 10;
+    private static final String ARTICLE_FRAGMENTS = "articleFragments";
+
     private final ArticleQueryService articleQueryService;
     private final CommentQueryService commentQueryService;
     private final ArticleService articleService;
     private final ArticleServiceDtoResolver dtoResolver;
+    private final ArticleFragmentCache articleFragmentCache;
+    private final FragmentRenderer fragmentRenderer;
 
     @GetMapping("/")
     public String home() {
@@ -53,7 +72,7 @@ public class BoardViewController {
         Pageable pageable = dtoResolver.toPageable(request);
         ArticleSearchCond cond = dtoResolver.toSearchCond(request);
 
-        Page<ListView> articles = articleQueryService.search(cond, pageable)
+        Page<ListView> articles = articleQueryService.searchList(cond, pageable)
                 .map(ListView::from);
 
         model.addAttribute("user", getUserViewResponse(loginInfo));
@@ -64,22 +83,79 @@ public class BoardViewController {
         return "articleList";
     }
 
+    @GetMapping(value = "/board", params = "slice=true")
+    @ValidBinding(goBackTo = "redirect:/board")
+    @ValidPage(attributeName = "articles", requestType = ArticleListRequest.class)
+    public String getArticleSlice(@Valid @ModelAttribute ArticleListRequest request, BindingResult br, @Login LoginInfo loginInfo, Model model) {
+        Pageable pageable = dtoResolver.toPageable(request);
+        ArticleSearchCond cond = dtoResolver.toSearchCond(request);
+
+        Slice<ListView> articles = articleQueryService.sliceList(cond, pageable)
+                .map(ListView::from);
+
+        model.addAttribute("user", getUserViewResponse(loginInfo));
+        model.addAttribute("cond", cond);
+        model.addAttribute("articles", articles);
+        model.addAttribute("slice", true);
+        addPageAttribute(model, ViewPageNumbers.of(articles));
+
+        return "articleList";
+    }
+
+    @GetMapping("/board/popular")
+    @ValidBinding(goBackTo = "redirect:/board/popular")
+    public String getPopularArticles(@Valid @ModelAttribute PopularListRequest request, BindingResult br, @Login LoginInfo loginInfo, Model model) {
+        List<ListView> articles = articleQueryService.findPopular(request.getWindow(), POPULAR_SIZE).stream()
+                .map(ListView::from)
+                .toList();
+
+        model.addAttribute("user", getUserViewResponse(loginInfo));
+        model.addAttribute("window", request.getWindow());
+        model.addAttribute("articles", articles);
+
+        return "popularList";
+    }
+
     @GetMapping("/board/{id}")
     @ValidBinding(goBackTo = "redirect:/board")
     @ValidPage(pageSize = 20, attributeName = "comments", requestType = ArticleRequest.class)
-    public String getArticle(@Valid @ModelAttribute ArticleRequest request, BindingResult br, @Login LoginInfo loginInfo, @PathVariable Long id, Model model) {
+    public String getArticle(@Valid @ModelAttribute ArticleRequest request, BindingResult br, @Login LoginInfo loginInfo, @PathVariable Long id, Model model,
+                             HttpServletRequest servletRequest, HttpServletResponse servletResponse) {
         Pageable pageable = dtoResolver.toPageable(request);
-        LookUp article = articleService.lookUp(id, pageable);
-        Page<Comment> comments = article.getComments();
+        commentQueryService.checkPageRange(id, pageable);
 
-        View articleView = View.of(article);
+        final long version = articleFragmentCache.version(id);
 
+        HttpSession session = servletRequest.getSession(false);
 
+        Viewer viewer = Viewer.of(loginInfo == null ? null : loginInfo.getUserId(), session == null ? null : session.getId());
         model.addAttribute("user", getUserViewResponse(loginInfo));
+
+        Optional<String> cachedBody = articleFragmentCache.find(id, version, Fragment.BODY, pageable);
+        Optional<String> cachedComments = articleFragmentCache.find(id, version, Fragment.COMMENTS, pageable);
+
+        if (cachedBody.isPresent() && cachedComments.isPresent()) {
+            model.addAttribute("article", View.of(articleService.lookUpHeader(id, viewer)));
+            model.addAttribute("articleBody", cachedBody.get());
+            model.addAttribute("commentList", cachedComments.get());
+
+            return "article";
+        }
+
+        LookUp article = articleService.lookUp(id, pageable, viewer);
+        Page<Comment> comments = article.getComments();
+
+        View articleView = View.of(article);
+
         model.addAttribute("article", articleView);
         model.addAttribute("comments", articleView.getComments());
         addPageAttribute(model, ViewPageNumbers.of(comments));
 
+        model.addAttribute("articleBody", cachedBody.orElseGet(() -> articleFragmentCache.render(id, version, Fragment.BODY, pageable,
+                () -> fragmentRenderer.render(ARTICLE_FRAGMENTS, "articleBody", model.asMap(), servletRequest, servletResponse))));
+        model.addAttribute("commentList", cachedComments.orElseGet(() -> articleFragmentCache.render(id, version, Fragment.COMMENTS, pageable,
+                () -> fragmentRenderer.render(ARTICLE_FRAGMENTS, "commentList", model.asMap(), servletRequest, servletResponse))));
+
         return "article";
     }
 
@@ -108,6 +184,16 @@ public class BoardViewController {
         return ArticleSearchType.values();
     }
 
+    @ModelAttribute
+    public ArticleSortType[] articleSortTypes() {
+        return ArticleSortType.values();
+    }
+
+    @ModelAttribute
+    public TrendingWindow[] trendingWindows() {
+        return TrendingWindow.values();
+    }
+
     private static UserViewResponse getUserViewResponse(LoginInfo loginInfo) {
         return loginInfo == null
                 ? UserViewResponse.empty()
@@ -37,11 +37,17 @@ public class ArticleServiceDtoResolver {
     }
 
     public ArticleSearchCond toSearchCond(ArticleApiDto.FindRequest findRequest) {
-        return ArticleSearchCond.create(findRequest.getKeyword(), findRequest.getType());
+        return ArticleSearchCond.create(findRequest.getKeyword(), findRequest.getType(), findRequest.getSort(),
+                findRequest.getFrom(), findRequest.getTo());
+    }
+
+    public ArticleSearchCond toSearchCond(ArticleApiDto.CursorRequest cursorRequest) {
+        return ArticleSearchCond.create(cursorRequest.getKeyword(), cursorRequest.getType());
     }
 
     public ArticleSearchCond toSearchCond(BoardRequest.ArticleListRequest findRequest) {
-        return ArticleSearchCond.create(findRequest.getKeyword(), findRequest.getType());
+        return ArticleSearchCond.create(findRequest.getKeyword(), findRequest.getType(), findRequest.getSort(),
+                findRequest.getFrom(), findRequest.getTo());
     }
 
 }
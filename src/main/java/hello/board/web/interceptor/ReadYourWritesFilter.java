@@ -0,0 +1,42 @@
+package hello.board.web.interceptor;
+
+import hello.board.datasource.ReadYourWritesWindow;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens the read-your-writes scope around each request. Writes are recorded as their transactions commit,
+ * so the writing request itself reads them back from the primary.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        readYourWritesWindow.enter(() -> sessionIdOf(request));
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesWindow.exit();
+        }
+    }
+
+    private static String sessionIdOf(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session == null ? null : session.getId();
+    }
+}
@@ -0,0 +1,40 @@
+package hello.board.web.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders one {@code th:fragment} of a template to a string, with the same link building and expression
+ * support as a full view, so the result can be cached and inlined with {@code th:utext}.
+ */
+@Component
+@RequiredArgsConstructor
+public class FragmentRenderer {
+
+    private final ITemplateEngine templateEngine;
+    private final ApplicationContext applicationContext;
+
+    public String render(String template, String fragment, Map<String, Object> variables,
+                         HttpServletRequest request, HttpServletResponse response) {
+        IWebExchange exchange = JakartaServletWebApplication.buildApplication(request.getServletContext())
+                .buildExchange(request, response);
+
+        Map<String, Object> contextVariables = new HashMap<>(variables);
+        contextVariables.put(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, null));
+
+        return templateEngine.process(template, Set.of(fragment), new WebContext(exchange, request.getLocale(), contextVariables));
+    }
+}
@@ -83,4 +83,35 @@ function httpRequest(method, url, body, success, fail) {
             return fail();
         }
     });
-}
\ No newline at end of file
+}
+const keywordInput = document.getElementById('keyword');
+const keywordSuggestions = document.getElementById('keyword-suggestions');
+
+if (keywordInput && keywordSuggestions) {
+    let timer;
+
+    keywordInput.addEventListener('input', event => {
+        clearTimeout(timer);
+
+        let q = keywordInput.value.trim();
+        if (!q) {
+            keywordSuggestions.replaceChildren();
+            return;
+        }
+
+        timer = setTimeout(() => {
+            fetch(`/api/articles/suggest?q=${encodeURIComponent(q)}`)
+                .then(response => response.ok ? response.json() : { titles: [], authors: [] })
+                .then(result => {
+                    let type = document.getElementById('type');
+                    let values = type && type.value === 'AUTHOR' ? result.authors : result.titles;
+
+                    keywordSuggestions.replaceChildren(...values.map(value => {
+                        let option = document.createElement('option');
+                        option.value = value;
+                        return option;
+                    }));
+                });
+        }, 150);
+    });
+}
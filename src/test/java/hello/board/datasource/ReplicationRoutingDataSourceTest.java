@@ -0,0 +1,256 @@
+package hello.board.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    EmbeddedDatabase primary;
+    EmbeddedDatabase replica;
+
+    AtomicLong now = new AtomicLong();
+    ReadYourWritesWindow window = new ReadYourWritesWindow(Duration.ofSeconds(5), now::get);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate readWrite;
+    TransactionTemplate readOnly;
+
+    @BeforeEach
+    void beforeEach() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, window, registry)
+        );
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void afterEach() {
+        window.exit();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    private static EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", name);
+
+        return database;
+    }
+
+    private String currentNode(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private double routed(String target, String reason) {
+        return registry.get("board.datasource.route")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 그 외는 primary")
+    void route() {
+        //when & then
+        assertThat(currentNode(readOnly))
+                .as("읽기 전용 트랜잭션")
+                .isEqualTo("replica");
+
+        assertThat(currentNode(readWrite))
+                .as("읽기/쓰기 트랜잭션")
+                .isEqualTo("primary");
+
+        assertThat(jdbcTemplate.queryForObject("select name from node", String.class))
+                .as("트랜잭션 밖")
+                .isEqualTo("primary");
+
+        assertThat(routed("replica", "read-only"))
+                .as("replica 라우팅 수")
+                .isEqualTo(1.0);
+
+        assertThat(routed("primary", "write"))
+                .as("primary 라우팅 수")
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("같은 데이터를 가진 replica 에서 읽기 전용 조회")
+    void route_sharedDatabase() {
+        //given
+        final String url = "jdbc:h2:mem:routing-shared;DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource sharedPrimary = new DriverManagerDataSource(url, "sa", "");
+        DriverManagerDataSource sharedReplica = new DriverManagerDataSource(url, "sa", "");
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(sharedPrimary, sharedReplica, window, registry)
+        );
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        JdbcTemplate shared = new JdbcTemplate(dataSource);
+
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        TransactionTemplate read = new TransactionTemplate(transactionManager);
+        read.setReadOnly(true);
+
+        try {
+            write.executeWithoutResult(status -> {
+                shared.execute("create table article (title varchar(20))");
+                shared.update("insert into article values (?)", "title");
+            });
+
+            //when
+            String title = read.execute(status -> shared.queryForObject("select title from article", String.class));
+
+            //then
+            assertThat(title)
+                    .as("primary 에 쓴 데이터")
+                    .isEqualTo("title");
+
+            assertThat(routed("replica", "read-only"))
+                    .as("replica 라우팅 수")
+                    .isEqualTo(1.0);
+        } finally {
+            shared.execute("drop all objects");
+        }
+    }
+
+    @Test
+    @DisplayName("자신의 쓰기 직후에는 읽기 전용 트랜잭션도 primary")
+    void route_readYourWrites() {
+        //given
+        window.recordWrite("session1");
+
+        //when & then
+        window.enter(() -> "session1");
+        assertThat(currentNode(readOnly))
+                .as("쓰기 직후 같은 세션")
+                .isEqualTo("primary");
+        window.exit();
+
+        window.enter(() -> "session2");
+        assertThat(currentNode(readOnly))
+                .as("다른 세션")
+                .isEqualTo("replica");
+        window.exit();
+
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        window.enter(() -> "session1");
+        assertThat(currentNode(readOnly))
+                .as("윈도우 경과 후 같은 세션")
+                .isEqualTo("replica");
+        window.exit();
+
+        assertThat(routed("primary", "read-your-writes"))
+                .as("read-your-writes 라우팅 수")
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 커밋 직후 같은 요청의 조회는 primary")
+    void route_afterCommit() {
+        //given
+        window.enter(() -> "session1");
+
+        assertThat(currentNode(readOnly))
+                .as("쓰기 전")
+                .isEqualTo("replica");
+
+        //when
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+
+        //then
+        assertThat(currentNode(readOnly))
+                .as("같은 요청")
+                .isEqualTo("primary");
+        window.exit();
+
+        window.enter(() -> "session1");
+        assertThat(window.isPinned())
+                .as("다음 요청: 같은 세션")
+                .isTrue();
+        window.exit();
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+        assertThat(window.isPinned())
+                .as("요청 밖의 커밋")
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("고정된 요청의 작업은 다른 스레드에서도 primary")
+    void route_propagated() throws InterruptedException {
+        //given
+        window.recordWrite("session1");
+        window.enter(() -> "session1");
+
+        final AtomicReference<String> node = new AtomicReference<>();
+        Runnable task = window.propagate(() -> node.set(currentNode(readOnly)));
+
+        //when
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        //then
+        assertThat(node.get())
+                .as("작업 스레드의 읽기 전용 트랜잭션")
+                .isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("윈도우가 지난 쓰기 기록은 정리")
+    void prune() {
+        //given
+        window.recordWrite("session1");
+        now.addAndGet(Duration.ofSeconds(3).toNanos());
+        window.recordWrite("session2");
+        now.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        //when
+        window.prune();
+
+        //then
+        window.enter(() -> "session1");
+        assertThat(window.isPinned())
+                .as("만료된 세션")
+                .isFalse();
+
+        window.enter(() -> "session2");
+        assertThat(window.isPinned())
+                .as("윈도우 내 세션")
+                .isTrue();
+    }
+}
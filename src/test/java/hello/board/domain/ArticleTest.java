@@ -292,4 +292,19 @@ class ArticleTest {
                 .as("게시글 작성자의 ID가 맞는지 확인")
                 .isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void excerpt() {
+        //given
+        User author = createUserByReflection("user", "user@board.com", "password");
+        Article article = Article.create("title", "content", author);
+
+        //when
+        article.modifyContent("a".repeat(Article.EXCERPT_LENGTH + 10));
+
+        //then
+        assertThat(article.getExcerpt())
+                .as("내용 앞부분 발췌")
+                .isEqualTo("a".repeat(Article.EXCERPT_LENGTH));
+    }
+}
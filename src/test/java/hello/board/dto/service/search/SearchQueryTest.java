@@ -0,0 +1,81 @@
+package hello.board.dto.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchQueryTest {
+
+    @Test
+    @DisplayName("연산자 없는 검색어는 하나의 구문")
+    void parse_literal() {
+        //when
+        SearchQuery query = SearchQuery.parse("  Spring Boot ");
+
+        //then
+        assertThat(query.getClauses())
+                .hasSize(1);
+
+        assertThat(query.getClauses().get(0).getIncluded())
+                .as("공백 포함 소문자 구문")
+                .containsExactly("spring boot");
+    }
+
+    @Test
+    @DisplayName("AND, OR, 제외어, 따옴표 구문")
+    void parse_operators() {
+        //when
+        SearchQuery query = SearchQuery.parse("spring AND \"data jpa\" -legacy OR querydsl -\"old version\"");
+
+        //then
+        assertThat(query.getClauses())
+                .hasSize(2);
+
+        SearchQuery.Clause first = query.getClauses().get(0);
+        SearchQuery.Clause second = query.getClauses().get(1);
+
+        assertThat(first.getIncluded()).containsExactly("spring", "data jpa");
+        assertThat(first.getExcluded()).containsExactly("legacy");
+
+        assertThat(second.getIncluded()).containsExactly("querydsl");
+        assertThat(second.getExcluded()).containsExactly("old version");
+
+        assertThat(query.firstTerm()).isEqualTo("spring");
+    }
+
+    @Test
+    @DisplayName("빈 절과 닫히지 않은 따옴표")
+    void parse_malformed() {
+        //when
+        SearchQuery query = SearchQuery.parse("OR OR \"unclosed phrase");
+        SearchQuery excludeOnly = SearchQuery.parse("-spring");
+
+        //then
+        assertThat(query.getClauses())
+                .hasSize(1);
+
+        assertThat(query.getClauses().get(0).getIncluded())
+                .containsExactly("unclosed phrase");
+
+        assertThat(excludeOnly.hasUnboundedClause())
+                .as("제외어만 있는 절")
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("AND, OR 만 있으면 일반 검색어")
+    void parse_loneOperator() {
+        //when
+        SearchQuery and = SearchQuery.parse(" AND ");
+        SearchQuery or = SearchQuery.parse("OR");
+
+        //then
+        assertThat(and.isEmpty())
+                .as("빈 검색 아님")
+                .isFalse();
+
+        assertThat(and.firstTerm()).isEqualTo("and");
+        assertThat(or.firstTerm()).isEqualTo("or");
+    }
+}
@@ -3,24 +3,24 @@ package hello.board.repository;
 import hello.board.domain.Article;
 import hello.board.domain.Comment;
 import hello.board.domain.User;
-import hello.board.dto.service.ArticleCommentFlatDto;
+import hello.board.dto.service.ArticleExportDto;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceUnitUtil;
+import org.hibernate.Session;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 class ArticleRepositoryTest {
@@ -211,76 +211,40 @@ class ArticleRepositoryTest {
     }
 
     @Test
-    @DisplayName("페이징된 댓글과 함께 조회 성공")
-    void findWithComments_paging() {
+    @DisplayName("상세 조회 성공 - 작성자만 페치, 읽기 전용")
+    void findDetailById() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
-        User author3 = createAndSaveUser("author3", "author3@board.com", "");
 
         Article article = Article.create("title", "content", author1);
         em.persist(article);
         final Long id = article.getId();
 
-        final int NUMBER_OF_COMMENTS = 20;
-        final int PAGE = 1, SIZE = 5;
-        final Pageable pageable = PageRequest.of(PAGE, SIZE);
-
-        List<Comment> comments = generateComments(article, NUMBER_OF_COMMENTS, author1, author2, author3);
-        comments.forEach(em::persist);
+        generateComments(article, 5, author1, author2).forEach(em::persist);
 
         em.flush();
         em.clear();
 
         //when
-        Page<ArticleCommentFlatDto> flatDtos = articleRepository.findWithComments(id, pageable);
-
-        // then
-        final List<ArticleCommentFlatDto> content = flatDtos.getContent();
-
-        //article
-        assertThat(content)
-                .extracting("article")
-                .as("동일한 게시글")
-                .containsOnly(article);
+        Article findArticle = articleRepository.findDetailById(id).orElseThrow();
 
-        Article findArticle = content.stream()
-                .map(ArticleCommentFlatDto::getArticle)
-                .findAny()
-                .orElseThrow();
-
-        assertThat(findArticle.getView())
-                .as("조회수")
-                .isEqualTo(0L);
+        //then
+        assertThat(findArticle)
+                .as("게시글")
+                .isEqualTo(article);
 
-        //article.author
-        User findArticleAuthor = findArticle.getAuthor();
-        assertThat(persistence.isLoaded(findArticleAuthor))
+        assertThat(persistence.isLoaded(findArticle.getAuthor()))
                 .as("게시글 작성자 페치 조인")
                 .isTrue();
 
-        assertThat(findArticleAuthor)
-                .as("게시글 작성자")
-                .isEqualTo(author1);
-
-        //article.comments
-        assertThat(content)
-                .extracting("comment")
-                .as("댓글 작성자")
-                .containsExactlyElementsOf(comments.subList(5, 10));
-
-        //article.comments[*].author
-        assertThat(content)
-                .extracting("comment")
-                .extracting("author")
-                .as("댓글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+        assertThat(persistence.isLoaded(findArticle, "comments"))
+                .as("댓글은 조회하지 않음")
+                .isFalse();
 
-        assertThat(content)
-                .extracting("comment")
-                .extracting("author")
-                .as("댓글 작성자")
-                .containsExactly(author3, author1, author2, author3, author1);
+        assertThat(em.unwrap(Session.class).isReadOnly(findArticle))
+                .as("읽기 전용 조회")
+                .isTrue();
     }
 
     private static List<Comment> generateComments(Article article, int numOfComments, User... authors) {
@@ -297,33 +261,93 @@ class ArticleRepositoryTest {
     }
 
     @Test
-    @DisplayName("페이징된 댓글과 함께 조회 실패")
-    void findWithComments_paging_fail() {
+    @DisplayName("상세 조회 실패")
+    void findDetailById_fail() {
         //given
-        User author1 = createAndSaveUser("author1", "author1@board.com", "");
-        User author2 = createAndSaveUser("author2", "author2@board.com", "");
-        User author3 = createAndSaveUser("author3", "author3@board.com", "");
+        User author = createAndSaveUser("author", "author@board.com", "");
 
-        Article article = Article.create("title", "content", author1);
+        Article article = Article.create("title", "content", author);
         em.persist(article);
 
         final Long WRONG_ID = 666L;
-        final int NUMBER_OF_COMMENTS = 20;
-        final int PAGE = 2, SIZE = 5;
-        final Pageable pageable = PageRequest.of(PAGE, SIZE);
-
-        generateComments(article, NUMBER_OF_COMMENTS, author1, author2, author3);
 
         em.flush();
         em.clear();
 
         //when
-        Page<ArticleCommentFlatDto> flatDtos = articleRepository.findWithComments(WRONG_ID, pageable);
+        Optional<Article> articleOptional = articleRepository.findDetailById(WRONG_ID);
 
         // then
-        assertThat(flatDtos.isEmpty())
+        assertThat(articleOptional)
                 .as("존재하지 않는 게시글")
-                .isTrue();
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("댓글 수 채우기")
+    void backfillCommentCounts() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        Article article1 = Article.create("title1", "content1", author);
+        Article article2 = Article.create("title2", "content2", author);
+        em.persist(article1);
+        em.persist(article2);
+
+        generateComments(article1, 3, author).forEach(em::persist);
+
+        em.flush();
+        em.clear();
+
+        //when
+        int updated = articleRepository.backfillCommentCounts(0L, articleRepository.findMaxId());
+        em.clear();
+
+        //then
+        assertThat(updated)
+                .as("갱신된 게시글 수")
+                .isEqualTo(2);
+
+        assertThat(articleRepository.findById(article1.getId()).orElseThrow().getCommentCount())
+                .as("댓글 3개")
+                .isEqualTo(3L);
+
+        assertThat(articleRepository.findById(article2.getId()).orElseThrow().getCommentCount())
+                .as("댓글 없음")
+                .isEqualTo(0L);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("내보내기 스트림: id 순서, 영속성 컨텍스트에 쌓이지 않음")
+    void streamForExport() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        Article article1 = Article.create("title1", "content1", author);
+        Article article2 = Article.create("title2", "content2", author);
+        em.persist(article1);
+        em.persist(article2);
+
+        em.flush();
+        em.clear();
+
+        //when
+        List<ArticleExportDto> exported;
+        try (Stream<ArticleExportDto> stream = articleRepository.streamForExport()) {
+            exported = stream.toList();
+        }
+
+        //then
+        assertThat(exported)
+                .extracting(ArticleExportDto::getId)
+                .containsExactly(article1.getId(), article2.getId());
+
+        assertThat(exported)
+                .extracting(ArticleExportDto::getAuthor, ArticleExportDto::getContent)
+                .containsExactly(tuple("author", "content1"), tuple("author", "content2"));
+
+        assertThat(em.unwrap(Session.class).getStatistics().getEntityCount())
+                .as("영속성 컨텍스트의 엔티티 수")
+                .isZero();
+    }
+}
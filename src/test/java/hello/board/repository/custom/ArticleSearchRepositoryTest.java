@@ -3,24 +3,32 @@ package hello.board.repository.custom;
 import hello.board.domain.Article;
 import hello.board.domain.Comment;
 import hello.board.domain.User;
+import hello.board.dto.service.search.ArticleListDto;
 import hello.board.dto.service.search.ArticleSearchCond;
-import hello.board.dto.service.search.ArticleSearchDto;
+import hello.board.dto.service.search.PageTotal;
 import hello.board.repository.ArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceUnitUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static hello.board.dto.service.search.ArticleSearchType.*;
+import static hello.board.dto.service.search.ArticleSortType.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -32,11 +40,21 @@ class ArticleSearchRepositoryTest {
     @Autowired
     EntityManager em;
 
-    PersistenceUnitUtil persistence;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
 
     @BeforeEach
     void beforeEach() {
-        persistence = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        meterRegistry.clear();
     }
 
     private User createAndSaveUser(String name, String email, String password) {
@@ -45,6 +63,12 @@ class ArticleSearchRepositoryTest {
         return user;
     }
 
+    private static List<Long> idsOf(List<Article> articles) {
+        return articles.stream()
+                .map(Article::getId)
+                .toList();
+    }
+
     private static List<Article> generateArticles(int numOfArticles, User... authors) {
         List<Article> articles = new ArrayList<>();
         for (int i = 0; i < numOfArticles; i++) {
@@ -75,9 +99,13 @@ class ArticleSearchRepositoryTest {
         return comments;
     }
 
+    private void syncCommentCounts() {
+        articleRepository.backfillCommentCounts(0L, articleRepository.findMaxId());
+    }
+
     @Test
     @DisplayName("검색 조건 없음 - 첫 페이지")
-    void search_firstPage() {
+    void searchList_firstPage() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -88,6 +116,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 3, 11, 2);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         final PageRequest pageable = PageRequest.of(0, 5);
 
@@ -95,44 +124,31 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(pageable);
+        Page<ArticleListDto> articleListDtos = articleRepository.searchList(pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         List<Article> inPage = articles.subList(15, 20);
         Collections.reverse(inPage);
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactlyElementsOf(inPage);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactlyElementsOf(idsOf(inPage));
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author2, author1, author3, author2, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author2.getName(), author1.getName(), author3.getName(), author2.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -142,7 +158,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건 없음 - 중간 페이지")
-    void search_middlePage() {
+    void searchList_middlePage() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -153,6 +169,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 7, 0, 11, 3, 8, 2);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(1, 7);
 
@@ -160,44 +177,31 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(3);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         List<Article> inPage = articles.subList(6, 13);
         Collections.reverse(inPage);
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactlyElementsOf(inPage);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactlyElementsOf(idsOf(inPage));
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2, author1, author3, author2, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName(), author1.getName(), author3.getName(), author2.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -207,7 +211,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건 없음 - 마지막 페이지")
-    void search_lastPage() {
+    void searchList_lastPage() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -218,6 +222,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 3, 8, 5, 2, 0, 2, 6, 3, 8);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(3, 6);
 
@@ -225,44 +230,31 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         List<Article> inPage = articles.subList(0, 2);
         Collections.reverse(inPage);
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactlyElementsOf(inPage);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactlyElementsOf(idsOf(inPage));
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author2, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author2.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -272,7 +264,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건 없음 - 결과 없음")
-    void search_resultEmpty() {
+    void searchList_resultEmpty() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -283,6 +275,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(666, 6);
 
@@ -290,25 +283,25 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        assertThat(articleSearchDtos.isEmpty())
+        assertThat(articleListDtos.isEmpty())
                 .as("검색 결과 없음")
                 .isTrue();
     }
 
     @Test
     @DisplayName("검색 조건 없음 - 결과가 한 페이지")
-    void search_onePage() {
+    void searchList_onePage() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -319,6 +312,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 7, 0, 3);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         final PageRequest pageable = PageRequest.of(0, 20);
 
@@ -326,44 +320,31 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(pageable);
+        Page<ArticleListDto> articleListDtos = articleRepository.searchList(pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(5L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         List<Article> inPage = new ArrayList<>(articles);
         Collections.reverse(inPage);
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactlyElementsOf(inPage);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactlyElementsOf(idsOf(inPage));
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author2, author1, author3, author2, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author2.getName(), author1.getName(), author3.getName(), author2.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -373,30 +354,30 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건 없음 - 게시글 없음")
-    void search_noArticle() {
+    void searchList_noArticle() {
         //given
         final PageRequest pageable = PageRequest.of(0, 20);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(pageable);
+        Page<ArticleListDto> articleListDtos = articleRepository.searchList(pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(0);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(0L);
 
-        assertThat(articleSearchDtos.isEmpty())
+        assertThat(articleListDtos.isEmpty())
                 .as("페이지 내 게시글 없음")
                 .isTrue();
     }
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 - 빈 조건 1")
-    void search_cond_titleAndContent_empty_1() {
+    void searchList_cond_titleAndContent_empty_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -423,6 +404,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -432,41 +414,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(10L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article8);
+                .containsExactly(article10.getId(), article9.getId(), article8.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -476,7 +445,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 - 빈 조건 2")
-    void search_cond_titleAndContent_empty_2() {
+    void searchList_cond_titleAndContent_empty_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -503,6 +472,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -512,41 +482,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(10L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article8);
+                .containsExactly(article10.getId(), article9.getId(), article8.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -556,7 +513,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 1")
-    void search_cond_titleAndContent_1() {
+    void searchList_cond_titleAndContent_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -582,6 +539,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -591,41 +549,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(4L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article2);
+                .containsExactly(article10.getId(), article9.getId(), article2.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -635,7 +580,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 2")
-    void search_cond_titleAndContent_2() {
+    void searchList_cond_titleAndContent_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -661,6 +606,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -670,41 +616,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(2L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article7, article6);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactly(article7.getId(), article6.getId());
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -714,7 +647,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 3")
-    void search_cond_titleAndContent_3() {
+    void searchList_cond_titleAndContent_3() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -740,6 +673,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -749,41 +683,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(5L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article7);
+                .containsExactly(article10.getId(), article9.getId(), article7.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -793,7 +714,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 4")
-    void search_cond_titleAndContent_4() {
+    void searchList_cond_titleAndContent_4() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -819,6 +740,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -828,41 +750,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(3L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article8, article7, article5);
+                .containsExactly(article8.getId(), article7.getId(), article5.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author2, author1, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author2.getName(), author1.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -872,7 +781,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 5")
-    void search_cond_titleAndContent_5() {
+    void searchList_cond_titleAndContent_5() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -898,6 +807,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -907,41 +817,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(6L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article6);
+                .containsExactly(article10.getId(), article9.getId(), article6.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author3);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author3.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -951,7 +848,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 6")
-    void search_cond_titleAndContent_6() {
+    void searchList_cond_titleAndContent_6() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -977,6 +874,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -986,25 +884,25 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(0);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(0L);
 
-        assertThat(articleSearchDtos.isEmpty())
+        assertThat(articleListDtos.isEmpty())
                 .as("결과 없음")
                 .isTrue();
     }
 
     @Test
     @DisplayName("검색 조건: 제목 - 빈 조건 1")
-    void search_cond_title_empty_1() {
+    void searchList_cond_title_empty_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1031,6 +929,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1040,41 +939,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(10L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article8);
+                .containsExactly(article10.getId(), article9.getId(), article8.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1084,7 +970,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 - 빈 조건 2")
-    void search_cond_title_empty_2() {
+    void searchList_cond_title_empty_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1111,6 +997,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1120,41 +1007,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(10L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article8);
+                .containsExactly(article10.getId(), article9.getId(), article8.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1164,7 +1038,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 1")
-    void search_cond_title_1() {
+    void searchList_cond_title_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1190,6 +1064,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1199,41 +1074,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(3L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article1);
+                .containsExactly(article10.getId(), article9.getId(), article1.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1243,7 +1105,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 2")
-    void search_cond_title_2() {
+    void searchList_cond_title_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1269,6 +1131,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1278,41 +1141,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(1L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article6);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactly(article6.getId());
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author3);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author3.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1322,7 +1172,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 3")
-    void search_cond_title_3() {
+    void searchList_cond_title_3() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1348,6 +1198,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1357,41 +1208,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(4L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article7);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactly(article10.getId(), article9.getId(), article7.getId());
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1401,7 +1239,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 4")
-    void search_cond_title_4() {
+    void searchList_cond_title_4() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1427,6 +1265,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1436,41 +1275,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(1L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article7);
+                .containsExactly(article7.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1480,7 +1306,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 및 내용 5")
-    void search_cond_title_5() {
+    void searchList_cond_title_5() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1506,6 +1332,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1515,41 +1342,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(4L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article9, article6, article4);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactly(article9.getId(), article6.getId(), article4.getId());
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author3, author3, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author3.getName(), author3.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1559,7 +1373,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 제목 6")
-    void search_cond_title_6() {
+    void searchList_cond_title_6() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1585,6 +1399,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1594,25 +1409,25 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(0);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(0L);
 
-        assertThat(articleSearchDtos.isEmpty())
+        assertThat(articleListDtos.isEmpty())
                 .as("결과 없음")
                 .isTrue();
     }
 
     @Test
     @DisplayName("검색 조건: 내용 - 빈 조건 1")
-    void search_cond_content_empty_1() {
+    void searchList_cond_content_empty_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1639,6 +1454,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1648,41 +1464,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(10L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article8);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactly(article10.getId(), article9.getId(), article8.getId());
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1692,7 +1495,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 내용 - 빈 조건 2")
-    void search_cond_content_empty_2() {
+    void searchList_cond_content_empty_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1719,6 +1522,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1728,41 +1532,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(10L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article8);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactly(article10.getId(), article9.getId(), article8.getId());
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1772,7 +1563,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 내용 1")
-    void search_cond_content_1() {
+    void searchList_cond_content_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1798,6 +1589,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1807,41 +1599,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(2L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactly(article10.getId(), article2.getId());
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1851,7 +1630,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 내용 2")
-    void search_cond_content_2() {
+    void searchList_cond_content_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1877,6 +1656,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1886,41 +1666,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(2L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article7, article6);
+                .containsExactly(article7.getId(), article6.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -1930,7 +1697,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 내용 3")
-    void search_cond_content_3() {
+    void searchList_cond_content_3() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1956,6 +1723,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -1965,41 +1733,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(4L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article7);
+                .containsExactly(article10.getId(), article9.getId(), article7.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -2009,7 +1764,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 내용 4")
-    void search_cond_content_4() {
+    void searchList_cond_content_4() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -2035,6 +1790,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -2044,41 +1800,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(2L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article8, article5);
+                .containsExactly(article8.getId(), article5.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author2, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author2.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -2088,7 +1831,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 내용 5")
-    void search_cond_content_5() {
+    void searchList_cond_content_5() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -2114,6 +1857,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -2123,41 +1867,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(1);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(3L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article3, article1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
+                .containsExactly(article10.getId(), article3.getId(), article1.getId());
 
         assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -2167,7 +1898,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 내용 6")
-    void search_cond_content_6() {
+    void searchList_cond_content_6() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -2193,6 +1924,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -2202,25 +1934,25 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(0);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(0L);
 
-        assertThat(articleSearchDtos.isEmpty())
+        assertThat(articleListDtos.isEmpty())
                 .as("결과 없음")
                 .isTrue();
     }
 
     @Test
     @DisplayName("검색 조건: 작성자 - 빈 조건 1")
-    void search_cond_author_empty_1() {
+    void searchList_cond_author_empty_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -2247,6 +1979,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -2256,41 +1989,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(10L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article8);
+                .containsExactly(article10.getId(), article9.getId(), article8.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -2300,7 +2020,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 작성자 - 빈 조건 2")
-    void search_cond_author_empty_2() {
+    void searchList_cond_author_empty_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -2327,6 +2047,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -2336,41 +2057,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(4);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(10L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article9, article8);
+                .containsExactly(article10.getId(), article9.getId(), article8.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author3, author2);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author3.getName(), author2.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -2380,7 +2088,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 작성자 1")
-    void search_cond_author_1() {
+    void searchList_cond_author_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -2407,6 +2115,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -2416,41 +2125,28 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(4L);
 
-        List<ArticleSearchDto> content = articleSearchDtos.getContent();
+        List<ArticleListDto> content = articleListDtos.getContent();
 
         assertThat(content)
-                .extracting("article")
+                .extracting("id")
                 .as("페이지 내 게시글")
-                .containsExactly(article10, article7, article4);
+                .containsExactly(article10.getId(), article7.getId(), article4.getId());
 
         assertThat(content)
-                .extracting("article")
-                .extracting("author")
-                .as("게시글 작성자 페치 조인")
-                .allMatch(persistence::isLoaded);
-
-        assertThat(content)
-                .extracting("article")
                 .extracting("author")
                 .as("게시글 작성자")
-                .containsExactly(author1, author1, author1);
-
-        assertThat(content)
-                .extracting("article")
-                .extracting("comments")
-                .as("댓글 로딩 지연")
-                .noneMatch(persistence::isLoaded);
+                .containsExactly(author1.getName(), author1.getName(), author1.getName());
 
         assertThat(content)
                 .extracting("numComments")
@@ -2460,7 +2156,7 @@ class ArticleSearchRepositoryTest {
 
     @Test
     @DisplayName("검색 조건: 작성자 2")
-    void search_cond_author_2() {
+    void searchList_cond_author_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -2486,6 +2182,7 @@ class ArticleSearchRepositoryTest {
 
         List<Comment> comments = generateComments(articles, author1, 0, 1, 2, 3, 4);
         comments.forEach(em::persist);
+        syncCommentCounts();
 
         PageRequest pageable = PageRequest.of(0, 3);
 
@@ -2495,19 +2192,367 @@ class ArticleSearchRepositoryTest {
         em.clear();
 
         //when
-        final Page<ArticleSearchDto> articleSearchDtos = articleRepository.search(cond, pageable);
+        final Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(0);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(0L);
 
-        assertThat(articleSearchDtos.isEmpty())
+        assertThat(articleListDtos.isEmpty())
                 .as("결과 없음")
                 .isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 검색 조건 없음 - 첫 페이지")
+    void searchBefore_firstPage() {
+        //given
+        User author1 = createAndSaveUser("author1", "author1@board.com", "");
+        User author2 = createAndSaveUser("author2", "author2@board.com", "");
+
+        List<Article> articles = generateArticles(20, author1, author2);
+        articles.forEach(em::persist);
+
+        List<Comment> comments = generateComments(articles, author1, 0, 3, 11, 2);
+        comments.forEach(em::persist);
+        syncCommentCounts();
+
+        em.flush();
+        em.clear();
+
+        //when
+        Slice<ArticleListDto> articleListDtos = articleRepository.searchBefore(null, 5);
+
+        //then
+        assertThat(articleListDtos.hasNext())
+                .as("다음 페이지 존재")
+                .isTrue();
+
+        List<Article> inPage = articles.subList(15, 20);
+        Collections.reverse(inPage);
+
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
+                .as("페이지 내 게시글")
+                .containsExactlyElementsOf(inPage.stream().map(Article::getId).toList());
+
+        assertThat(articleListDtos.getContent())
+                .extracting("numComments")
+                .as("댓글 수")
+                .containsExactly(2L, 11L, 3L, 0L, 2L);
+    }
+
+    @Test
+    @DisplayName("커서 검색 조건 없음 - 마지막 페이지")
+    void searchBefore_lastPage() {
+        //given
+        User author1 = createAndSaveUser("author1", "author1@board.com", "");
+
+        List<Article> articles = generateArticles(20, author1);
+        articles.forEach(em::persist);
+
+        final Long before = articles.get(3).getId();
+
+        em.flush();
+        em.clear();
+
+        //when
+        Slice<ArticleListDto> articleListDtos = articleRepository.searchBefore(before, 5);
+
+        //then
+        assertThat(articleListDtos.hasNext())
+                .as("다음 페이지 없음")
+                .isFalse();
+
+        List<Article> inPage = articles.subList(0, 3);
+        Collections.reverse(inPage);
+
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
+                .as("페이지 내 게시글")
+                .containsExactlyElementsOf(inPage.stream().map(Article::getId).toList());
+    }
+
+    @Test
+    @DisplayName("커서 검색 조건: 제목")
+    void searchBefore_cond_title() {
+        //given
+        User author1 = createAndSaveUser("author1", "author1@board.com", "");
+
+        Article article1 = Article.create("keyword 1", "content", author1);
+        Article article2 = Article.create("title 2", "content", author1);
+        Article article3 = Article.create("keyword 3", "content", author1);
+        Article article4 = Article.create("title 4", "content", author1);
+        Article article5 = Article.create("KEYWORD 5", "content", author1);
+        Article article6 = Article.create("keyword 6", "content", author1);
+
+        List<Article> articles = List.of(article1, article2, article3, article4, article5, article6);
+        articles.forEach(em::persist);
+
+        final ArticleSearchCond cond = ArticleSearchCond.create("keyword", TITLE);
+        final Long before = article6.getId();
+
+        em.flush();
+        em.clear();
+
+        //when
+        Slice<ArticleListDto> articleListDtos = articleRepository.searchBefore(cond, before, 2);
+
+        //then
+        assertThat(articleListDtos.hasNext())
+                .as("다음 페이지 존재")
+                .isTrue();
+
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
+                .as("페이지 내 게시글")
+                .containsExactly(article5.getId(), article3.getId());
+    }
+
+    @Test
+    @DisplayName("목록 프로젝션 검색 조건 없음")
+    void searchList() {
+        //given
+        User author1 = createAndSaveUser("author1", "author1@board.com", "");
+        User author2 = createAndSaveUser("author2", "author2@board.com", "");
+
+        List<Article> articles = generateArticles(7, author1, author2);
+        articles.forEach(em::persist);
+
+        List<Comment> comments = generateComments(articles, author1, 0, 3, 1);
+        comments.forEach(em::persist);
+        syncCommentCounts();
+
+        em.flush();
+        em.clear();
+
+        //when
+        Page<ArticleListDto> articleListDtos = articleRepository.searchList(PageRequest.of(1, 3));
+
+        //then
+        assertThat(articleListDtos.getTotalElements())
+                .as("전체 게시글 수")
+                .isEqualTo(7L);
+
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
+                .as("페이지 내 게시글")
+                .containsExactly(articles.get(3).getId(), articles.get(2).getId(), articles.get(1).getId());
+
+        assertThat(articleListDtos.getContent())
+                .extracting("author")
+                .as("작성자")
+                .containsExactly("author2", "author1", "author2");
+
+        assertThat(articleListDtos.getContent())
+                .extracting("numComments")
+                .as("댓글 수")
+                .containsExactly(0L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("목록 프로젝션 검색 조건: 작성자")
+    void searchList_cond_author() {
+        //given
+        User author1 = createAndSaveUser("author1", "author1@board.com", "");
+        User author2 = createAndSaveUser("author2", "author2@board.com", "");
+
+        List<Article> articles = generateArticles(5, author1, author2);
+        articles.forEach(em::persist);
+
+        final ArticleSearchCond cond = ArticleSearchCond.create("author2", AUTHOR);
+
+        em.flush();
+        em.clear();
+
+        //when
+        Page<ArticleListDto> articleListDtos = articleRepository.searchList(cond, PageRequest.of(0, 10));
+
+        //then
+        assertThat(articleListDtos.getTotalElements())
+                .as("전체 게시글 수")
+                .isEqualTo(2L);
+
+        assertThat(articleListDtos.getContent())
+                .extracting("title")
+                .as("페이지 내 게시글")
+                .containsExactly("title3", "title1");
+    }
+
+    @Test
+    @DisplayName("목록 프로젝션 정렬: 오래된 순, 조회수 순, 댓글 순")
+    void searchList_sort() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        List<Article> articles = generateArticles(4, author);
+        articles.get(1).increaseView().increaseView();
+        articles.get(2).increaseView();
+        articles.get(3).increaseView().increaseView();
+        articles.forEach(em::persist);
+
+        List<Comment> comments = generateComments(articles, author, 0, 3, 1, 0);
+        comments.forEach(em::persist);
+        syncCommentCounts();
+
+        em.flush();
+        em.clear();
+
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        //when
+        Page<ArticleListDto> oldest = articleRepository.searchList(ArticleSearchCond.create("", TITLE, OLDEST), pageable);
+        Page<ArticleListDto> mostViewed = articleRepository.searchList(ArticleSearchCond.create("", TITLE, MOST_VIEWED), pageable);
+        Page<ArticleListDto> mostCommented = articleRepository.searchList(ArticleSearchCond.create("", TITLE, MOST_COMMENTED), pageable);
+
+        //then
+        assertThat(oldest.getContent())
+                .extracting("id")
+                .as("오래된 순")
+                .containsExactly(articles.get(0).getId(), articles.get(1).getId(), articles.get(2).getId(), articles.get(3).getId());
+
+        assertThat(mostViewed.getContent())
+                .extracting("id")
+                .as("조회수 순, 같으면 최신 순")
+                .containsExactly(articles.get(3).getId(), articles.get(1).getId(), articles.get(2).getId(), articles.get(0).getId());
+
+        assertThat(mostCommented.getContent())
+                .extracting("id")
+                .as("댓글 순, 같으면 최신 순")
+                .containsExactly(articles.get(1).getId(), articles.get(2).getId(), articles.get(3).getId(), articles.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("목록 프로젝션 연산자 검색: AND, OR, 제외어")
+    void searchList_booleanQuery() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        Article springBoot = Article.create("Spring Boot", "web", author);
+        Article springLegacy = Article.create("Spring legacy", "xml", author);
+        Article jpa = Article.create("JPA", "spring data", author);
+        Article querydsl = Article.create("Querydsl guide", "jpa", author);
+        List.of(springBoot, springLegacy, jpa, querydsl).forEach(em::persist);
+
+        em.flush();
+        em.clear();
+
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        //when
+        Page<ArticleListDto> title = articleRepository.searchList(ArticleSearchCond.create("spring -legacy OR querydsl", TITLE), pageable);
+        Page<ArticleListDto> titleAndContent = articleRepository.searchList(ArticleSearchCond.create("spring AND data", TITLE_AND_CONTENT), pageable);
+
+        //then
+        assertThat(title.getContent())
+                .extracting("id")
+                .as("제외어가 없는 spring 또는 querydsl")
+                .containsExactly(querydsl.getId(), springBoot.getId());
+
+        assertThat(title.getTotalElements())
+                .as("전체 게시글 수")
+                .isEqualTo(2L);
+
+        assertThat(titleAndContent.getContent())
+                .extracting("id")
+                .as("각 단어는 제목 또는 내용에서 일치")
+                .containsExactly(jpa.getId());
+    }
+
+    @Test
+    @DisplayName("검색 유형, 페이지 깊이별 쿼리 지표")
+    void searchList_metrics() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        generateArticles(25, author).forEach(em::persist);
+
+        em.flush();
+        em.clear();
+
+        //when
+        articleRepository.searchList(ArticleSearchCond.create("title1", TITLE), PageRequest.of(1, 5));
+        articleRepository.searchList(ArticleSearchCond.create("title", CONTENT), PageRequest.of(0, 5));
+
+        //then
+        assertThat(meterRegistry.get("board.search.content")
+                .tags("type", "TITLE", "depth", "2-10", "counted", "true")
+                .timer().count())
+                .as("중간 페이지가 가득 차서 카운트 필요")
+                .isEqualTo(1L);
+
+        assertThat(meterRegistry.get("board.search.rows")
+                .tags("type", "TITLE", "depth", "2-10")
+                .summary().totalAmount())
+                .as("가져온 행 수")
+                .isEqualTo(5.0);
+
+        assertThat(meterRegistry.get("board.search.content")
+                .tags("type", "CONTENT", "depth", "1", "counted", "false")
+                .timer().count())
+                .as("결과 없음: 카운트 생략")
+                .isEqualTo(1L);
+
+        assertThat(meterRegistry.get("board.search.count")
+                .tags("type", "TITLE")
+                .timer().count())
+                .as("카운트 쿼리")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 카운트해도 카운트한 것으로 기록")
+    void searchList_metrics_backgroundCount() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        generateArticles(25, author).forEach(em::persist);
+
+        em.flush();
+        em.clear();
+
+        final ArticleSearchCond cond = ArticleSearchCond.create("title", TITLE);
+
+        //when
+        articleRepository.searchList(cond, PageRequest.of(0, 5),
+                PageTotal.countOnDemand(() -> CompletableFuture.supplyAsync(() -> 25L).join()));
+
+        //then
+        assertThat(meterRegistry.get("board.search.content")
+                .tags("type", "TITLE", "depth", "1", "counted", "true")
+                .timer().count())
+                .as("작업 스레드의 카운트를 기다림")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("이미 아는 전체 수를 쓰면 카운트하지 않은 것으로 기록")
+    void searchList_metrics_knownTotal() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        generateArticles(25, author).forEach(em::persist);
+
+        em.flush();
+        em.clear();
+
+        //when
+        articleRepository.searchList(ArticleSearchCond.create("title1", TITLE), PageRequest.of(1, 5), PageTotal.known(11L));
+
+        //then
+        assertThat(meterRegistry.get("board.search.content")
+                .tags("type", "TITLE", "depth", "2-10", "counted", "false")
+                .timer().count())
+                .as("캐시된 전체 수 사용")
+                .isEqualTo(1L);
+
+        assertThat(meterRegistry.find("board.search.count").timer())
+                .as("카운트 쿼리 없음")
+                .isNull();
+    }
+}
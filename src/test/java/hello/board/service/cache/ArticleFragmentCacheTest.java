@@ -0,0 +1,217 @@
+package hello.board.service.cache;
+
+import hello.board.service.cache.ArticleFragmentCache.Fragment;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleFragmentCacheTest {
+
+    MeterRegistry meterRegistry;
+    ArticleFragmentCache cache;
+    AtomicInteger renders;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ArticleFragmentCache(Duration.ofMinutes(1), 10, meterRegistry);
+        renders = new AtomicInteger();
+    }
+
+    private Supplier<String> renderer(String html) {
+        return () -> {
+            renders.incrementAndGet();
+            return html;
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("board.fragment.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("같은 버전의 조각은 캐시")
+    void get_cached() {
+        //given
+        final Long id = 1L;
+        final Pageable pageable = PageRequest.of(0, 20);
+
+        //when
+        cache.get(id, cache.version(id), Fragment.BODY, pageable, renderer("<p>body</p>"));
+        String html = cache.get(id, cache.version(id), Fragment.BODY, pageable, renderer("<p>body</p>"));
+
+        //then
+        assertThat(renders.get())
+                .as("렌더링 횟수")
+                .isEqualTo(1);
+
+        assertThat(html)
+                .as("캐시된 조각")
+                .isEqualTo("<p>body</p>");
+
+        assertThat(count("hit"))
+                .as("hit")
+                .isEqualTo(1.0);
+
+        assertThat(count("miss"))
+                .as("miss")
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("댓글 조각은 페이지별로 캐시")
+    void get_commentPages() {
+        //given
+        final Long id = 1L;
+        final Pageable first = PageRequest.of(0, 20);
+        final Pageable second = PageRequest.of(1, 20);
+
+        //when
+        cache.get(id, cache.version(id), Fragment.COMMENTS, first, renderer("page1"));
+        String html = cache.get(id, cache.version(id), Fragment.COMMENTS, second, renderer("page2"));
+        cache.get(id, cache.version(id), Fragment.COMMENTS, first, renderer("page1"));
+
+        //then
+        assertThat(renders.get())
+                .as("페이지마다 한 번 렌더링")
+                .isEqualTo(2);
+
+        assertThat(html)
+                .as("두 번째 페이지 조각")
+                .isEqualTo("page2");
+    }
+
+    @Test
+    @DisplayName("게시글 단위 무효화")
+    void invalidateArticle() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 20);
+
+        cache.get(1L, cache.version(1L), Fragment.BODY, pageable, renderer("body1"));
+        cache.get(2L, cache.version(2L), Fragment.BODY, pageable, renderer("body2"));
+
+        //when
+        cache.invalidateArticle(1L);
+
+        String html = cache.get(1L, cache.version(1L), Fragment.BODY, pageable, renderer("modified"));
+        cache.get(2L, cache.version(2L), Fragment.BODY, pageable, renderer("body2"));
+
+        //then
+        assertThat(renders.get())
+                .as("무효화된 게시글만 다시 렌더링")
+                .isEqualTo(3);
+
+        assertThat(html)
+                .as("수정된 조각")
+                .isEqualTo("modified");
+    }
+
+    @Test
+    @DisplayName("렌더링 중 무효화되면 캐시 안 함")
+    void get_invalidatedWhileRendering() {
+        //given
+        final Long id = 1L;
+        final Pageable pageable = PageRequest.of(0, 20);
+        final long version = cache.version(id);
+
+        //when
+        cache.get(id, version, Fragment.BODY, pageable, () -> {
+            String html = renderer("stale").get();
+            cache.invalidateArticle(id);
+            return html;
+        });
+        String html = cache.get(id, cache.version(id), Fragment.BODY, pageable, renderer("fresh"));
+
+        //then
+        assertThat(renders.get())
+                .as("렌더링 횟수")
+                .isEqualTo(2);
+
+        assertThat(html)
+                .as("변경 후 조각")
+                .isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 쓰지 않은 조각부터 제거")
+    void get_evictsLeastRecentlyUsed() {
+        //given
+        ArticleFragmentCache small = new ArticleFragmentCache(Duration.ofMinutes(1), 2, meterRegistry);
+        final Pageable pageable = PageRequest.of(0, 20);
+
+        small.get(1L, small.version(1L), Fragment.BODY, pageable, renderer("body1"));
+        small.get(2L, small.version(2L), Fragment.BODY, pageable, renderer("body2"));
+        small.get(1L, small.version(1L), Fragment.BODY, pageable, renderer("body1"));
+
+        //when
+        small.get(3L, small.version(3L), Fragment.BODY, pageable, renderer("body3"));
+
+        //then
+        assertThat(small.size())
+                .as("최대 개수 유지")
+                .isEqualTo(2);
+
+        assertThat(small.find(1L, small.version(1L), Fragment.BODY, pageable))
+                .as("최근 사용한 조각")
+                .contains("body1");
+
+        assertThat(small.find(2L, small.version(2L), Fragment.BODY, pageable))
+                .as("가장 오래 쓰지 않은 조각")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 조각은 조회 시 제거")
+    void find_expired() throws InterruptedException {
+        //given
+        ArticleFragmentCache expiring = new ArticleFragmentCache(Duration.ofNanos(1), 10, meterRegistry);
+        final Pageable pageable = PageRequest.of(0, 20);
+
+        expiring.get(1L, expiring.version(1L), Fragment.BODY, pageable, renderer("body"));
+        Thread.sleep(1);
+
+        //when
+        var html = expiring.find(1L, expiring.version(1L), Fragment.BODY, pageable);
+
+        //then
+        assertThat(html)
+                .as("만료된 조각")
+                .isEmpty();
+
+        assertThat(expiring.size())
+                .as("만료된 조각 제거")
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 조각과 버전 제거")
+    void removeArticle() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 20);
+
+        cache.invalidateArticle(1L);
+        cache.get(1L, cache.version(1L), Fragment.BODY, pageable, renderer("body"));
+
+        //when
+        cache.removeArticle(1L);
+
+        //then
+        assertThat(cache.version(1L))
+                .as("버전 제거")
+                .isEqualTo(0L);
+
+        assertThat(cache.size())
+                .as("조각 제거")
+                .isEqualTo(0);
+    }
+}
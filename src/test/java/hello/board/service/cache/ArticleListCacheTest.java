@@ -0,0 +1,152 @@
+package hello.board.service.cache;
+
+import hello.board.dto.service.search.ArticleListDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleListCacheTest {
+
+    MeterRegistry meterRegistry;
+    ArticleListCache cache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ArticleListCache(2, Duration.ofMinutes(1), 10, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<Page<ArticleListDto>> loader(Pageable pageable, Long... ids) {
+        return () -> {
+            loads.incrementAndGet();
+            List<ArticleListDto> content = Arrays.stream(ids)
+                    .map(id -> new ArticleListDto(id, "title" + id, "author", null, 0L, 0L))
+                    .toList();
+            return new PageImpl<>(content, pageable, 100);
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("board.list.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("앞쪽 페이지는 캐시")
+    void get_cached() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        //when
+        cache.get(pageable, loader(pageable, 3L, 2L, 1L));
+        Page<ArticleListDto> page = cache.get(pageable, loader(pageable, 3L, 2L, 1L));
+
+        //then
+        assertThat(loads.get())
+                .as("조회 횟수")
+                .isEqualTo(1);
+
+        assertThat(page.getContent())
+                .extracting("id")
+                .as("캐시된 게시글")
+                .containsExactly(3L, 2L, 1L);
+
+        assertThat(count("hit"))
+                .as("hit")
+                .isEqualTo(1.0);
+
+        assertThat(count("miss"))
+                .as("miss")
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("뒤쪽 페이지는 캐시 안 함")
+    void get_deepPage() {
+        //given
+        final Pageable pageable = PageRequest.of(2, 10);
+
+        //when
+        cache.get(pageable, loader(pageable, 1L));
+        cache.get(pageable, loader(pageable, 1L));
+
+        //then
+        assertThat(loads.get())
+                .as("조회 횟수")
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 단위 무효화")
+    void invalidateArticle() {
+        //given
+        final Pageable first = PageRequest.of(0, 2);
+        final Pageable second = PageRequest.of(1, 2);
+
+        cache.get(first, loader(first, 4L, 3L));
+        cache.get(second, loader(second, 2L, 1L));
+
+        //when
+        cache.invalidateArticle(1L);
+
+        cache.get(first, loader(first, 4L, 3L));
+        cache.get(second, loader(second, 2L, 1L));
+
+        //then
+        assertThat(loads.get())
+                .as("무효화된 페이지만 다시 조회")
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전체 무효화")
+    void invalidateAll() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 10);
+        cache.get(pageable, loader(pageable, 1L));
+
+        //when
+        cache.invalidateAll();
+        cache.get(pageable, loader(pageable, 2L, 1L));
+
+        //then
+        assertThat(loads.get())
+                .as("조회 횟수")
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화되면 캐시 안 함")
+    void get_invalidatedWhileLoading() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        //when
+        cache.get(pageable, () -> {
+            Page<ArticleListDto> page = loader(pageable, 1L).get();
+            cache.invalidateAll();
+            return page;
+        });
+        cache.get(pageable, loader(pageable, 2L, 1L));
+
+        //then
+        assertThat(loads.get())
+                .as("조회 횟수")
+                .isEqualTo(2);
+    }
+}
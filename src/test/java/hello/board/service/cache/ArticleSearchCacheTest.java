@@ -0,0 +1,158 @@
+package hello.board.service.cache;
+
+import hello.board.dto.service.search.ArticleListDto;
+import hello.board.dto.service.search.ArticleSearchCond;
+import hello.board.dto.service.search.ArticleSortType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static hello.board.dto.service.search.ArticleSearchType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSearchCacheTest {
+
+    MeterRegistry meterRegistry;
+    ArticleSearchCache cache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ArticleSearchCache(2, Duration.ofMinutes(1), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<Page<ArticleListDto>> loader(Pageable pageable) {
+        return () -> {
+            loads.incrementAndGet();
+            return Page.empty(pageable);
+        };
+    }
+
+    @Test
+    @DisplayName("같은 검색은 캐시: 키워드 정규화")
+    void get_cached() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        //when
+        cache.get(ArticleSearchCond.create("Spring", TITLE), pageable, loader(pageable));
+        cache.get(ArticleSearchCond.create(" spring ", TITLE), pageable, loader(pageable));
+
+        //then
+        assertThat(loads.get())
+                .as("조회 횟수")
+                .isEqualTo(1);
+
+        assertThat(meterRegistry.get("board.search.cache").tag("result", "hit").counter().count())
+                .as("hit")
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("검색 타입, 페이지가 다르면 다른 항목")
+    void get_differentKey() {
+        //given
+        final Pageable first = PageRequest.of(0, 10);
+        final Pageable second = PageRequest.of(1, 10);
+
+        //when
+        cache.get(ArticleSearchCond.create("spring", TITLE), first, loader(first));
+        cache.get(ArticleSearchCond.create("spring", CONTENT), first, loader(first));
+        cache.get(ArticleSearchCond.create("spring", TITLE), second, loader(second));
+
+        //then
+        assertThat(loads.get())
+                .as("조회 횟수")
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("작성자 검색은 입력한 키워드 그대로 구분")
+    void get_authorKeyword() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        //when
+        cache.get(ArticleSearchCond.create("kim", AUTHOR), pageable, loader(pageable));
+        cache.get(ArticleSearchCond.create("\"kim\"", AUTHOR), pageable, loader(pageable));
+        cache.get(ArticleSearchCond.create(" KIM ", AUTHOR), pageable, loader(pageable));
+
+        //then
+        assertThat(loads.get())
+                .as("따옴표는 다른 검색, 대소문자와 공백은 같은 검색")
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쓰기 세대가 바뀌면 기존 항목 무효")
+    void bumpGeneration() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 10);
+        cache.get(ArticleSearchCond.create("spring", TITLE), pageable, loader(pageable));
+
+        //when
+        cache.bumpGeneration();
+        cache.get(ArticleSearchCond.create("spring", TITLE), pageable, loader(pageable));
+        cache.get(ArticleSearchCond.create("spring", TITLE), pageable, loader(pageable));
+
+        //then
+        assertThat(loads.get())
+                .as("조회 횟수")
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 안 쓴 항목 제거")
+    void get_evictLeastRecentlyUsed() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 10);
+        final ArticleSearchCond a = ArticleSearchCond.create("a", TITLE);
+        final ArticleSearchCond b = ArticleSearchCond.create("b", TITLE);
+        final ArticleSearchCond c = ArticleSearchCond.create("c", TITLE);
+
+        cache.get(a, pageable, loader(pageable));
+        cache.get(b, pageable, loader(pageable));
+        cache.get(a, pageable, loader(pageable));
+
+        //when
+        cache.get(c, pageable, loader(pageable));
+        cache.get(a, pageable, loader(pageable));
+        cache.get(b, pageable, loader(pageable));
+
+        //then
+        assertThat(cache.size())
+                .as("캐시 크기")
+                .isEqualTo(2);
+
+        assertThat(loads.get())
+                .as("b만 다시 조회")
+                .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("정렬이 다르면 다른 검색")
+    void get_sort() {
+        //given
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        //when
+        cache.get(ArticleSearchCond.create("spring", TITLE, ArticleSortType.LATEST), pageable, loader(pageable));
+        cache.get(ArticleSearchCond.create("spring", TITLE, ArticleSortType.MOST_VIEWED), pageable, loader(pageable));
+
+        //then
+        assertThat(loads.get())
+                .as("조회 횟수")
+                .isEqualTo(2);
+    }
+}
@@ -3,27 +3,52 @@ package hello.board.service.command;
 import hello.board.domain.Article;
 import hello.board.domain.Comment;
 import hello.board.domain.User;
+import hello.board.dto.service.ArticleServiceDto.Header;
 import hello.board.dto.service.ArticleServiceDto.LookUp;
 import hello.board.dto.service.ArticleServiceDto.Save;
+import hello.board.dto.service.ArticleServiceDto.Viewer;
 import hello.board.exception.FailToFindEntityException;
 import hello.board.exception.NoAuthorityException;
 import hello.board.exception.WrongPageRequestException;
 import hello.board.repository.ArticleRepository;
+import hello.board.repository.ArticleViewerSketchRepository;
 import hello.board.repository.CommentRepository;
 import hello.board.repository.UserRepository;
+import hello.board.service.cache.ArticleFragmentCache;
+import hello.board.service.cache.ArticleListCache;
+import hello.board.service.cache.ArticleSearchCache;
+import hello.board.service.cache.PageTotalCache;
+import hello.board.service.counter.BoardCounter;
+import hello.board.service.counter.UniqueViewerCounter;
+import hello.board.service.counter.ViewCountBuffer;
+import hello.board.service.index.ArticleTextIndex;
+import hello.board.service.index.SuggestIndex;
+import hello.board.service.ranking.TrendingRanking;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static hello.board.dto.service.ArticleServiceDto.Update;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,12 +69,70 @@ class ArticleServiceTest {
     @Autowired
     CommentRepository commentRepository;
 
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    SuggestIndex suggestIndex;
+
+    static final Viewer VIEWER = Viewer.of(null, "session");
+
     @TestConfiguration
     static class Config {
 
         @Bean
-        ArticleService articleService(ArticleRepository articleRepository, UserRepository userRepository) {
-            return new ArticleService(articleRepository, userRepository);
+        ArticleTextIndex articleTextIndex() {
+            return new ArticleTextIndex(1000);
+        }
+
+        @Bean
+        BoardCounter boardCounter() {
+            return new BoardCounter();
+        }
+
+        @Bean
+        ArticleListCache articleListCache() {
+            return new ArticleListCache(0, Duration.ZERO, 0, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        ArticleFragmentCache articleFragmentCache() {
+            return new ArticleFragmentCache(Duration.ZERO, 0, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        PageTotalCache pageTotalCache() {
+            return new PageTotalCache(0, Duration.ZERO, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        ArticleSearchCache articleSearchCache() {
+            return new ArticleSearchCache(0, Duration.ZERO, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        TrendingRanking trendingRanking() {
+            return new TrendingRanking(1000, Duration.ZERO);
+        }
+
+        @Bean
+        SuggestIndex suggestIndex() {
+            return new SuggestIndex();
+        }
+
+        @Bean
+        ViewCountBuffer viewCountBuffer(ArticleRepository articleRepository, PlatformTransactionManager transactionManager) {
+            return new ViewCountBuffer(articleRepository, transactionManager, false);
+        }
+
+        @Bean
+        UniqueViewerCounter uniqueViewerCounter(ArticleViewerSketchRepository sketchRepository, PlatformTransactionManager transactionManager) {
+            return new UniqueViewerCounter(sketchRepository, transactionManager, Duration.ZERO, 0);
+        }
+
+        @Bean
+        ArticleService articleService(ArticleRepository articleRepository, UserRepository userRepository, CommentRepository commentRepository, ViewCountBuffer viewCountBuffer, UniqueViewerCounter uniqueViewerCounter, ApplicationEventPublisher eventPublisher) {
+            return new ArticleService(articleRepository, userRepository, commentRepository, viewCountBuffer, uniqueViewerCounter, eventPublisher);
         }
     }
 
@@ -127,8 +210,9 @@ class ArticleServiceTest {
         commentRepository.saveAll(comments);
 
         //when
-        Article findArticle = articleService.lookUp(id);
+        LookUp lookUp = articleService.lookUp(id, VIEWER);
 
+        Article findArticle = lookUp.getArticle();
         List<Comment> findComments = findArticle.getComments();
 
         //then
@@ -137,10 +221,14 @@ class ArticleServiceTest {
                 .as("게시글")
                 .isEqualTo(article);
 
-        assertThat(findArticle.getView())
+        assertThat(lookUp.getViews())
                 .as("조회수 증가")
                 .isEqualTo(1L);
 
+        assertThat(lookUp.getUniqueViewers())
+                .as("방문자 수")
+                .isEqualTo(1L);
+
         //article.author
         User findArticleAuthor = findArticle.getAuthor();
         assertThat(findArticleAuthor)
@@ -163,6 +251,155 @@ class ArticleServiceTest {
                 .containsOnly(article);
     }
 
+    @Test
+    @DisplayName("같은 사용자의 반복 조회는 방문자 수에 한 번만 반영")
+    void lookUp_uniqueViewers() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+        Article article = articleRepository.save(Article.create("title", "content", author));
+
+        final Long id = article.getId();
+
+        //when
+        articleService.lookUp(id, Viewer.of(1L, "session1"));
+        articleService.lookUp(id, Viewer.of(1L, "session2"));
+        articleService.lookUp(id, Viewer.of(null, "session3"));
+        LookUp lookUp = articleService.lookUp(id, Viewer.unknown());
+
+        //then
+        assertThat(lookUp.getViews())
+                .as("조회수")
+                .isEqualTo(4L);
+
+        assertThat(lookUp.getUniqueViewers())
+                .as("방문자 수")
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("동시 조회 시 조회수 유실 없음")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void lookUp_concurrent() throws InterruptedException {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+        Article article = articleRepository.save(Article.create("title", "content", author));
+
+        final Long id = article.getId();
+        final int NUMBER_OF_LOOKUPS = 20;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final CountDownLatch done = new CountDownLatch(NUMBER_OF_LOOKUPS);
+
+        try {
+            //when
+            for (int i = 0; i < NUMBER_OF_LOOKUPS; i++) {
+                executor.execute(() -> {
+                    try {
+                        articleService.lookUp(id, VIEWER);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+
+            //then
+            assertThat(articleRepository.findById(id).orElseThrow().getView())
+                    .as("조회 횟수만큼 증가")
+                    .isEqualTo(NUMBER_OF_LOOKUPS);
+        } finally {
+            executor.shutdown();
+            articleRepository.deleteById(id);
+            userRepository.delete(author);
+        }
+    }
+
+    @Test
+    @DisplayName("커밋된 저장과 삭제는 색인에 반영")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void save_delete_afterCommit() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        try {
+            //when
+            final Long id = articleService.save(author.getId(), Save.create("committedTitle", "content"));
+
+            //then
+            assertThat(suggestIndex.suggest("committed", 10).getTitles())
+                    .as("저장 커밋 후 색인")
+                    .containsExactly("committedTitle");
+
+            //when
+            articleService.delete(id, author.getId());
+
+            //then
+            assertThat(suggestIndex.suggest("committed", 10).getTitles())
+                    .as("삭제 커밋 후 제거")
+                    .isEmpty();
+        } finally {
+            userRepository.delete(author);
+        }
+    }
+
+    @Test
+    @DisplayName("커밋되지 않은 저장은 색인에 반영하지 않음")
+    void save_notCommitted() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        //when
+        articleService.save(author.getId(), Save.create("uncommittedTitle", "content"));
+
+        //then
+        assertThat(suggestIndex.suggest("uncommitted", 10).getTitles())
+                .as("커밋 전에는 색인하지 않음")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("헤더만 조회해도 조회수와 방문자 수 반영")
+    void lookUpHeader() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+        Article article = articleRepository.save(Article.create("title", "content", author));
+
+        final Long id = article.getId();
+
+        //when
+        Header header = articleService.lookUpHeader(id, VIEWER);
+
+        //then
+        assertThat(header.getArticle().getTitle())
+                .as("제목")
+                .isEqualTo("title");
+
+        assertThat(header.getArticle().getAuthor())
+                .as("작성자")
+                .isEqualTo("author");
+
+        assertThat(header.getViews())
+                .as("조회수 증가")
+                .isEqualTo(1L);
+
+        assertThat(header.getUniqueViewers())
+                .as("방문자 수")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("헤더 조회 실패")
+    void lookUpHeader_fail() {
+        //given
+        final Long WRONG_ID = 4444L;
+
+        //when & then
+        assertThatThrownBy(() -> articleService.lookUpHeader(WRONG_ID, VIEWER))
+                .as("게시글 조회 실패 시 예외")
+                .isInstanceOf(FailToFindEntityException.class);
+    }
+
     @Test
     @DisplayName("모든 댓글과 함께 조회 실패")
     void lookUp_fail() {
@@ -175,7 +412,7 @@ class ArticleServiceTest {
         final Long WRONG_ID = 4444L;
 
         //when & then
-        assertThatThrownBy(() -> articleService.lookUp(WRONG_ID))
+        assertThatThrownBy(() -> articleService.lookUp(WRONG_ID, VIEWER))
                 .as("게시글 조회 실패 시 예외")
                 .isInstanceOf(FailToFindEntityException.class);
     }
@@ -192,7 +429,7 @@ class ArticleServiceTest {
         final Pageable pageable = PageRequest.of(0, 5);
 
         //when
-        LookUp lookUp = articleService.lookUp(id, pageable);
+        LookUp lookUp = articleService.lookUp(id, pageable, VIEWER);
 
         // then
         //article
@@ -202,7 +439,7 @@ class ArticleServiceTest {
                 .as("게시글")
                 .isEqualTo(article);
 
-        assertThat(findArticle.getView())
+        assertThat(lookUp.getViews())
                 .as("조회수 증가")
                 .isEqualTo(1L);
 
@@ -243,7 +480,7 @@ class ArticleServiceTest {
         commentRepository.saveAll(comments);
 
         //when
-        LookUp lookUp = articleService.lookUp(id, pageable);
+        LookUp lookUp = articleService.lookUp(id, pageable, VIEWER);
 
         // then
         //article
@@ -253,7 +490,7 @@ class ArticleServiceTest {
                 .as("게시글")
                 .isEqualTo(article);
 
-        assertThat(findArticle.getView())
+        assertThat(lookUp.getViews())
                 .as("조회수 증가")
                 .isEqualTo(1L);
 
@@ -302,7 +539,7 @@ class ArticleServiceTest {
         commentRepository.saveAll(comments);
 
         //when
-        LookUp lookUp = articleService.lookUp(id, pageable);
+        LookUp lookUp = articleService.lookUp(id, pageable, VIEWER);
 
         // then
         //article
@@ -312,7 +549,7 @@ class ArticleServiceTest {
                 .as("게시글")
                 .isEqualTo(article);
 
-        assertThat(findArticle.getView())
+        assertThat(lookUp.getViews())
                 .as("조회수 증가")
                 .isEqualTo(1L);
 
@@ -361,7 +598,7 @@ class ArticleServiceTest {
         commentRepository.saveAll(comments);
 
         //when
-        LookUp lookUp = articleService.lookUp(id, pageable);
+        LookUp lookUp = articleService.lookUp(id, pageable, VIEWER);
 
         // then
         //article
@@ -371,7 +608,7 @@ class ArticleServiceTest {
                 .as("게시글")
                 .isEqualTo(article);
 
-        assertThat(findArticle.getView())
+        assertThat(lookUp.getViews())
                 .as("조회수 증가")
                 .isEqualTo(1L);
 
@@ -419,7 +656,7 @@ class ArticleServiceTest {
         generateComments(article, NUMBER_OF_COMMENTS, author1, author2, author3);
 
         //when & then
-        assertThatThrownBy(() -> articleService.lookUp(WRONG_ID, pageable))
+        assertThatThrownBy(() -> articleService.lookUp(WRONG_ID, pageable, VIEWER))
                 .as("존재하지 않는 게시글")
                 .isInstanceOf(FailToFindEntityException.class);
     }
@@ -445,7 +682,7 @@ class ArticleServiceTest {
         generateComments(article, NUMBER_OF_COMMENTS, author1, author2, author3);
 
         //when & then
-        assertThatThrownBy(() -> articleService.lookUp(id, pageable))
+        assertThatThrownBy(() -> articleService.lookUp(id, pageable, VIEWER))
                 .as("존재하지 않는 페이지")
                 .isInstanceOf(WrongPageRequestException.class);
     }
@@ -481,6 +718,45 @@ class ArticleServiceTest {
                 .isEqualTo(0L);
     }
 
+    @Test
+    @DisplayName("수정 중 커밋된 조회수 반영은 유지")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void update_keepsFlushedViews() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+        Article article = articleRepository.save(Article.create("title", "content", author));
+
+        final Long id = article.getId();
+        final Long userId = author.getId();
+
+        TransactionTemplate request = new TransactionTemplate(transactionManager);
+        TransactionTemplate flush = new TransactionTemplate(transactionManager);
+        flush.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            //when
+            request.executeWithoutResult(status -> {
+                articleRepository.findById(id).orElseThrow();
+                flush.executeWithoutResult(inner -> articleRepository.addViews(5L, List.of(id)));
+                articleService.update(id, userId, Update.create("titleUpdate", null));
+            });
+
+            //then
+            Article updatedArticle = articleRepository.findById(id).orElseThrow();
+
+            assertThat(updatedArticle.getTitle())
+                    .as("제목 수정")
+                    .isEqualTo("titleUpdate");
+
+            assertThat(updatedArticle.getView())
+                    .as("수정이 조회수를 덮어쓰지 않음")
+                    .isEqualTo(5L);
+        } finally {
+            articleRepository.deleteById(id);
+            userRepository.delete(author);
+        }
+    }
+
     @Test
     @DisplayName("수정 성공 - 제목 수정")
     void update_title() {
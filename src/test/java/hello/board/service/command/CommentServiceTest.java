@@ -10,13 +10,22 @@ import hello.board.exception.NoAuthorityException;
 import hello.board.repository.ArticleRepository;
 import hello.board.repository.CommentRepository;
 import hello.board.repository.UserRepository;
+import hello.board.service.cache.ArticleFragmentCache;
+import hello.board.service.cache.ArticleListCache;
+import hello.board.service.cache.PageTotalCache;
+import hello.board.service.counter.BoardCounter;
+import hello.board.service.ranking.TrendingRanking;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,13 +46,41 @@ class CommentServiceTest {
     @Autowired
     CommentRepository commentRepository;
 
+    @Autowired
+    EntityManager em;
+
 
     @TestConfiguration
     static class Config {
 
         @Bean
-        CommentService commentService(CommentRepository commentRepository, UserRepository userRepository, ArticleRepository articleRepository) {
-            return new CommentService(commentRepository, articleRepository, userRepository);
+        BoardCounter boardCounter() {
+            return new BoardCounter();
+        }
+
+        @Bean
+        ArticleListCache articleListCache() {
+            return new ArticleListCache(0, Duration.ZERO, 0, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        ArticleFragmentCache articleFragmentCache() {
+            return new ArticleFragmentCache(Duration.ZERO, 0, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        PageTotalCache pageTotalCache() {
+            return new PageTotalCache(0, Duration.ZERO, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        TrendingRanking trendingRanking() {
+            return new TrendingRanking(1000, Duration.ZERO);
+        }
+
+        @Bean
+        CommentService commentService(CommentRepository commentRepository, UserRepository userRepository, ArticleRepository articleRepository, ApplicationEventPublisher eventPublisher) {
+            return new CommentService(commentRepository, articleRepository, userRepository, eventPublisher);
         }
     }
 
@@ -84,6 +121,32 @@ class CommentServiceTest {
                 .isEqualTo(author);
     }
 
+    @Test
+    @DisplayName("저장, 삭제 시 게시글의 댓글 수 반영")
+    void save_delete_commentCount() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+        Article article = createAndSaveArticle("title", "content", author);
+
+        final Long authorId = author.getId();
+        final Long articleId = article.getId();
+
+        //when
+        final Long id = commentService.save(articleId, authorId, Save.create("comment1"));
+        commentService.save(articleId, authorId, Save.create("comment2"));
+
+        em.clear();
+        commentService.delete(id, articleId, authorId);
+        em.clear();
+
+        //then
+        Article findArticle = articleRepository.findById(articleId).orElseThrow();
+
+        assertThat(findArticle.getCommentCount())
+                .as("게시글의 댓글 수")
+                .isEqualTo(1L);
+    }
+
     @Test
     @DisplayName("저장 실패 - 존재하지 않는 게시글 ID")
     void save_fail_wrongArticleId() {
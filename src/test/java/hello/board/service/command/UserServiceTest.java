@@ -5,6 +5,8 @@ import hello.board.dto.service.UserServiceDto.Save;
 import hello.board.dto.service.UserServiceDto.Update;
 import hello.board.exception.FailToFindEntityException;
 import hello.board.repository.UserRepository;
+import hello.board.service.index.SuggestIndex;
+import hello.board.service.index.UserNameDirectory;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,8 +37,18 @@ class UserServiceTest {
     static class Config {
 
         @Bean
-        UserService userService(UserRepository userRepository) {
-            return new UserService(userRepository, passwordEncoder());
+        UserNameDirectory userNameDirectory() {
+            return new UserNameDirectory(1000);
+        }
+
+        @Bean
+        SuggestIndex suggestIndex() {
+            return new SuggestIndex();
+        }
+
+        @Bean
+        UserService userService(UserRepository userRepository, UserNameDirectory userNameDirectory, SuggestIndex suggestIndex) {
+            return new UserService(userRepository, passwordEncoder(), userNameDirectory, suggestIndex);
         }
         
         @Bean
@@ -0,0 +1,65 @@
+package hello.board.service.counter;
+
+import hello.board.dto.service.search.CommentCountDto;
+import hello.board.repository.ArticleRepository;
+import hello.board.repository.CommentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BoardCounterReconcilerTest {
+
+    ArticleRepository articleRepository = mock(ArticleRepository.class);
+    CommentRepository commentRepository = mock(CommentRepository.class);
+    BoardCounter counter = new BoardCounter();
+    BoardCounterReconciler reconciler = new BoardCounterReconciler(articleRepository, commentRepository, counter);
+
+    @Test
+    @DisplayName("게시글 수 조회 중 커밋된 댓글은 댓글 수 조회에 포함되어도 한 번만 반영")
+    void reconcile_commentDuringArticleCount() {
+        //given
+        counter.reset(1L, Map.of(1L, 2L));
+
+        given(articleRepository.count()).willAnswer(invocation -> {
+            counter.commentAdded(1L);
+            return 1L;
+        });
+        given(commentRepository.countGroupByArticleId()).willReturn(List.of(new CommentCountDto(1L, 3L)));
+
+        //when
+        reconciler.reconcile();
+
+        //then
+        assertThat(counter.commentCount(1L))
+                .as("DB 댓글 수")
+                .isEqualTo(OptionalLong.of(3L));
+    }
+
+    @Test
+    @DisplayName("댓글 수 조회 후 커밋된 댓글은 유지")
+    void reconcile_commentAfterCommentCount() {
+        //given
+        counter.reset(1L, Map.of(1L, 2L));
+
+        given(articleRepository.count()).willReturn(1L);
+        given(commentRepository.countGroupByArticleId()).willAnswer(invocation -> {
+            counter.commentAdded(1L);
+            return List.of(new CommentCountDto(1L, 2L));
+        });
+
+        //when
+        reconciler.reconcile();
+
+        //then
+        assertThat(counter.commentCount(1L))
+                .as("DB 댓글 수 + 조회 후 추가")
+                .isEqualTo(OptionalLong.of(3L));
+    }
+}
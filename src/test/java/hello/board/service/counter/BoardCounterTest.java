@@ -0,0 +1,139 @@
+package hello.board.service.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardCounterTest {
+
+    BoardCounter counter;
+
+    @BeforeEach
+    void beforeEach() {
+        counter = new BoardCounter();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 값 없음")
+    void notReady() {
+        //when
+        counter.articleAdded();
+        counter.commentAdded(1L);
+
+        //then
+        assertThat(counter.articleCount())
+                .as("게시글 수")
+                .isEmpty();
+
+        assertThat(counter.commentCount(1L))
+                .as("댓글 수")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글, 댓글 증감")
+    void increaseAndDecrease() {
+        //given
+        counter.reset(2L, Map.of(1L, 3L));
+
+        //when
+        counter.articleAdded();
+        counter.commentAdded(1L);
+        counter.commentAdded(3L);
+        counter.commentRemoved(1L);
+
+        //then
+        assertThat(counter.articleCount())
+                .as("게시글 수")
+                .isEqualTo(OptionalLong.of(3L));
+
+        assertThat(counter.commentCount(1L))
+                .as("댓글 수")
+                .isEqualTo(OptionalLong.of(3L));
+
+        assertThat(counter.commentCount(2L))
+                .as("댓글 없는 게시글")
+                .isEqualTo(OptionalLong.of(0L));
+
+        assertThat(counter.commentCount(3L))
+                .as("새 게시글 댓글 수")
+                .isEqualTo(OptionalLong.of(1L));
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 댓글 수도 삭제")
+    void articleRemoved() {
+        //given
+        counter.reset(2L, Map.of(1L, 3L, 2L, 1L));
+
+        //when
+        counter.articleRemoved(1L);
+
+        //then
+        assertThat(counter.articleCount())
+                .as("게시글 수")
+                .isEqualTo(OptionalLong.of(1L));
+
+        assertThat(counter.commentCount(1L))
+                .as("삭제된 게시글 댓글 수")
+                .isEqualTo(OptionalLong.of(0L));
+    }
+
+    @Test
+    @DisplayName("재조정: 어긋난 값 교정")
+    void reset_fixesDrift() {
+        //given
+        counter.reset(5L, Map.of(1L, 2L, 2L, 4L));
+        counter.articleAdded();
+        counter.commentAdded(1L);
+
+        //when
+        counter.reset(5L, Map.of(1L, 2L));
+
+        //then
+        assertThat(counter.articleCount())
+                .as("게시글 수")
+                .isEqualTo(OptionalLong.of(5L));
+
+        assertThat(counter.commentCount(1L))
+                .as("댓글 수")
+                .isEqualTo(OptionalLong.of(2L));
+
+        assertThat(counter.commentCount(2L))
+                .as("DB에 없는 댓글 수 제거")
+                .isEqualTo(OptionalLong.of(0L));
+    }
+
+    @Test
+    @DisplayName("재조정: DB 조회 중 반영된 증감은 유지")
+    void reconcile_keepsConcurrentChanges() {
+        //given
+        counter.reset(5L, Map.of(1L, 2L));
+        BoardCounter.Snapshot before = counter.snapshot();
+
+        //when
+        counter.articleAdded();
+        counter.commentAdded(1L);
+        counter.commentAdded(2L);
+
+        counter.reconcile(before, 4L, Map.of(1L, 2L));
+
+        //then
+        assertThat(counter.articleCount())
+                .as("DB 게시글 수 + 조회 중 추가")
+                .isEqualTo(OptionalLong.of(5L));
+
+        assertThat(counter.commentCount(1L))
+                .as("DB 댓글 수 + 조회 중 추가")
+                .isEqualTo(OptionalLong.of(3L));
+
+        assertThat(counter.commentCount(2L))
+                .as("조회 중 추가된 댓글 수")
+                .isEqualTo(OptionalLong.of(1L));
+    }
+}
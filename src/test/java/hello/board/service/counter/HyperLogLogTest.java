@@ -0,0 +1,99 @@
+package hello.board.service.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("중복 값은 한 번만 집계")
+    void add_duplicate() {
+        //given
+        HyperLogLog sketch = new HyperLogLog();
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("user:" + (i % 10));
+        }
+
+        //then
+        assertThat(sketch.estimate())
+                .as("서로 다른 값 10개")
+                .isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("대량 집계 오차 5% 이내")
+    void estimate_large() {
+        //given
+        HyperLogLog sketch = new HyperLogLog();
+
+        //when
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("user:" + i);
+        }
+
+        //then
+        assertThat((double) sketch.estimate())
+                .as("추정치")
+                .isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    @DisplayName("병합은 합집합, 같은 스케치 재병합은 영향 없음")
+    void merge() {
+        //given
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+
+        for (int i = 0; i < 6000; i++) {
+            left.add("user:" + i);
+        }
+        for (int i = 4000; i < 10000; i++) {
+            right.add("user:" + i);
+        }
+
+        //when
+        left.merge(right);
+        final long merged = left.estimate();
+        left.merge(right);
+
+        //then
+        assertThat((double) merged)
+                .as("합집합 추정치")
+                .isCloseTo(10_000, within(500.0));
+
+        assertThat(left.estimate())
+                .as("재병합")
+                .isEqualTo(merged);
+    }
+
+    @Test
+    @DisplayName("바이트 배열 변환 후 복원")
+    void bytes() {
+        //given
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 500; i++) {
+            sketch.add("session:" + i);
+        }
+
+        //when
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        //then
+        assertThat(sketch.toBytes())
+                .as("레지스터 크기")
+                .hasSize(HyperLogLog.REGISTERS);
+
+        assertThat(restored.estimate())
+                .as("복원된 추정치")
+                .isEqualTo(sketch.estimate());
+
+        assertThat(HyperLogLog.fromBytes(new byte[3]).estimate())
+                .as("잘못된 크기는 빈 스케치")
+                .isEqualTo(0L);
+    }
+}
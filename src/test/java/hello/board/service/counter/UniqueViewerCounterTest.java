@@ -0,0 +1,164 @@
+package hello.board.service.counter;
+
+import hello.board.domain.ArticleViewerSketch;
+import hello.board.dto.service.ArticleServiceDto.Viewer;
+import hello.board.repository.ArticleViewerSketchRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class UniqueViewerCounterTest {
+
+    @Autowired
+    ArticleViewerSketchRepository sketchRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EntityManager em;
+
+    UniqueViewerCounter counter;
+
+    @BeforeEach
+    void beforeEach() {
+        counter = new UniqueViewerCounter(sketchRepository, transactionManager, Duration.ZERO, 0);
+    }
+
+    @Test
+    @DisplayName("영속화 전에도 메모리 스케치로 집계")
+    void count_pending() {
+        //when
+        counter.record(1L, Viewer.of(1L, null));
+        counter.record(1L, Viewer.of(1L, null));
+        counter.record(1L, Viewer.of(null, "session"));
+        counter.record(1L, Viewer.unknown());
+
+        //then
+        assertThat(counter.count(1L))
+                .as("방문자 수")
+                .isEqualTo(2L);
+
+        assertThat(sketchRepository.findById(1L))
+                .as("영속화 전")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("영속화된 스케치와 메모리 스케치를 병합해 집계")
+    void persist_merge() {
+        //given
+        for (int i = 0; i < 100; i++) {
+            counter.record(1L, Viewer.of((long) i, null));
+        }
+
+        //when
+        counter.persist();
+        em.flush();
+        em.clear();
+
+        for (int i = 50; i < 150; i++) {
+            counter.record(1L, Viewer.of((long) i, null));
+        }
+
+        //then
+        ArticleViewerSketch stored = sketchRepository.findById(1L).orElseThrow();
+
+        assertThat(stored.getRegisters())
+                .as("레지스터 저장")
+                .hasSize(HyperLogLog.REGISTERS);
+
+        assertThat(counter.count(1L))
+                .as("병합된 방문자 수")
+                .isBetween(145L, 155L);
+
+        //when
+        counter.persist();
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(counter.count(1L))
+                .as("재영속화 후 방문자 수")
+                .isBetween(145L, 155L);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 같은 행에 영속화해도 병합")
+    void persist_instances() {
+        //given
+        UniqueViewerCounter other = new UniqueViewerCounter(sketchRepository, transactionManager, Duration.ZERO, 0);
+
+        for (int i = 0; i < 100; i++) {
+            counter.record(1L, Viewer.of((long) i, null));
+            other.record(1L, Viewer.of((long) i + 50, null));
+        }
+
+        //when
+        counter.persist();
+        em.flush();
+        em.clear();
+
+        other.persist();
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(counter.count(1L))
+                .as("두 인스턴스 방문자의 합집합")
+                .isBetween(145L, 155L);
+    }
+
+    @Test
+    @DisplayName("저장된 스케치는 캐시해 조회마다 DB를 읽지 않음")
+    void count_cached() {
+        //given
+        UniqueViewerCounter cached = new UniqueViewerCounter(sketchRepository, transactionManager, Duration.ofMinutes(1), 100);
+
+        cached.record(1L, Viewer.of(1L, null));
+        cached.persist();
+        em.flush();
+
+        //when
+        sketchRepository.deleteAllInBatch();
+        cached.record(1L, Viewer.of(2L, null));
+
+        //then
+        assertThat(cached.count(1L))
+                .as("캐시된 스케치와 메모리 스케치 병합")
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 스케치 삭제")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void remove() {
+        //given
+        counter.record(1L, Viewer.of(1L, null));
+        counter.persist();
+        counter.record(1L, Viewer.of(2L, null));
+
+        //when
+        counter.remove(1L);
+
+        //then
+        assertThat(sketchRepository.findById(1L))
+                .as("저장된 스케치 삭제")
+                .isEmpty();
+
+        assertThat(counter.count(1L))
+                .as("방문자 수")
+                .isEqualTo(0L);
+    }
+}
@@ -0,0 +1,208 @@
+package hello.board.service.counter;
+
+import hello.board.domain.Article;
+import hello.board.domain.User;
+import hello.board.repository.ArticleRepository;
+import hello.board.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ViewCountBufferTest {
+
+    @Autowired
+    ArticleRepository articleRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EntityManager em;
+
+    ViewCountBuffer buffer;
+
+    @BeforeEach
+    void beforeEach() {
+        buffer = new ViewCountBuffer(articleRepository, transactionManager, true);
+    }
+
+    private Article createAndSaveArticle(String title, User author) {
+        return articleRepository.save(Article.create(title, "content", author));
+    }
+
+    @Test
+    @DisplayName("조회수는 flush 전까지 메모리에만 누적")
+    void increment() {
+        //given
+        User author = userRepository.save(User.create("author", "author@board.com", ""));
+        final Long id = createAndSaveArticle("title", author).getId();
+
+        //when
+        buffer.increment(id);
+        buffer.increment(id);
+        final long pending = buffer.increment(id);
+
+        //then
+        assertThat(pending)
+                .as("반영 전 조회수")
+                .isEqualTo(3L);
+
+        em.flush();
+        em.clear();
+
+        assertThat(articleRepository.findById(id).orElseThrow().getView())
+                .as("DB 조회수 변화 없음")
+                .isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("flush 시 게시글별 조회수 일괄 반영")
+    void flush() {
+        //given
+        User author = userRepository.save(User.create("author", "author@board.com", ""));
+        final Long id1 = createAndSaveArticle("title1", author).getId();
+        final Long id2 = createAndSaveArticle("title2", author).getId();
+        final Long id3 = createAndSaveArticle("title3", author).getId();
+
+        buffer.increment(id1);
+        buffer.increment(id1);
+        buffer.increment(id2);
+        buffer.increment(id2);
+        buffer.increment(id3);
+
+        em.flush();
+
+        //when
+        buffer.flush();
+
+        //then
+        em.clear();
+
+        assertThat(articleRepository.findById(id1).orElseThrow().getView())
+                .as("게시글1 조회수")
+                .isEqualTo(2L);
+
+        assertThat(articleRepository.findById(id2).orElseThrow().getView())
+                .as("게시글2 조회수")
+                .isEqualTo(2L);
+
+        assertThat(articleRepository.findById(id3).orElseThrow().getView())
+                .as("게시글3 조회수")
+                .isEqualTo(1L);
+
+        assertThat(buffer.pending(id1))
+                .as("반영 후 대기 조회수 없음")
+                .isEqualTo(0L);
+
+        //when
+        buffer.increment(id1);
+
+        //then
+        assertThat(buffer.pending(id1))
+                .as("반영 이후 조회만 대기")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("동시 조회수 누적 후 flush 시 유실 없음")
+    void increment_concurrent() throws InterruptedException {
+        //given
+        User author = userRepository.save(User.create("author", "author@board.com", ""));
+        final Long id = createAndSaveArticle("title", author).getId();
+
+        em.flush();
+
+        final int NUMBER_OF_VIEWS = 100;
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch done = new CountDownLatch(NUMBER_OF_VIEWS);
+
+        //when
+        for (int i = 0; i < NUMBER_OF_VIEWS; i++) {
+            executor.execute(() -> {
+                try {
+                    buffer.increment(id);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        buffer.flush();
+
+        //then
+        em.clear();
+
+        assertThat(articleRepository.findById(id).orElseThrow().getView())
+                .as("조회 횟수만큼 반영")
+                .isEqualTo(NUMBER_OF_VIEWS);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글 조회수는 버림")
+    void remove() {
+        //given
+        User author = userRepository.save(User.create("author", "author@board.com", ""));
+        final Long id = createAndSaveArticle("title", author).getId();
+
+        buffer.increment(id);
+
+        //when
+        buffer.remove(id);
+
+        //then
+        assertThat(buffer.pending(id))
+                .as("대기 조회수 없음")
+                .isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("flush 후 조회 없는 게시글 항목은 제거")
+    void flush_dropsIdleArticles() {
+        //given
+        User author = userRepository.save(User.create("author", "author@board.com", ""));
+        final Long id1 = createAndSaveArticle("title1", author).getId();
+        final Long id2 = createAndSaveArticle("title2", author).getId();
+
+        buffer.increment(id1);
+        buffer.increment(id2);
+
+        em.flush();
+
+        //when
+        buffer.flush();
+
+        //then
+        assertThat(buffer.size())
+                .as("반영된 게시글 항목 제거")
+                .isEqualTo(0);
+
+        //when
+        buffer.increment(id1);
+        buffer.flush();
+
+        //then
+        em.clear();
+
+        assertThat(articleRepository.findById(id1).orElseThrow().getView())
+                .as("다시 조회된 게시글 조회수")
+                .isEqualTo(2L);
+    }
+}
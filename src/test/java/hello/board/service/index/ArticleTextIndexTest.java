@@ -0,0 +1,195 @@
+package hello.board.service.index;
+
+import hello.board.dto.service.search.ArticleSearchCond;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static hello.board.dto.service.search.ArticleSearchType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleTextIndexTest {
+
+    ArticleTextIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        index = new ArticleTextIndex(2);
+        index.index(1L, "Spring Boot 게시판", "첫 번째 글");
+        index.index(2L, "JPA 정리", "스프링 게시판 만들기");
+        index.index(3L, "querydsl", "Spring Data JPA");
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("제목 검색: 대소문자 무시")
+    void findCandidates_title() {
+        //when
+        Optional<Set<Long>> candidates = index.findCandidates(ArticleSearchCond.create("spring", TITLE));
+
+        //then
+        assertThat(candidates)
+                .as("후보 게시글")
+                .contains(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("내용 검색: 한글 바이그램")
+    void findCandidates_content_hangul() {
+        //when
+        Optional<Set<Long>> candidates = index.findCandidates(ArticleSearchCond.create("게시판", CONTENT));
+
+        //then
+        assertThat(candidates)
+                .as("후보 게시글")
+                .contains(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("제목 및 내용 검색: 합집합")
+    void findCandidates_titleAndContent() {
+        //when
+        Optional<Set<Long>> candidates = index.findCandidates(ArticleSearchCond.create("게시판", TITLE_AND_CONTENT));
+
+        //then
+        assertThat(candidates)
+                .as("후보 게시글")
+                .contains(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색")
+    void findCandidates_singleCharacter() {
+        //when
+        Optional<Set<Long>> candidates = index.findCandidates(ArticleSearchCond.create("글", CONTENT));
+
+        //then
+        assertThat(candidates)
+                .as("후보 게시글")
+                .contains(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("후보가 너무 많으면 색인 사용 안 함")
+    void findCandidates_tooManyCandidates() {
+        //when
+        Optional<Set<Long>> candidates = index.findCandidates(ArticleSearchCond.create("p", TITLE_AND_CONTENT));
+
+        //then
+        assertThat(candidates)
+                .as("색인 미사용")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("작성자 검색은 색인 사용 안 함")
+    void findCandidates_author() {
+        //when
+        Optional<Set<Long>> candidates = index.findCandidates(ArticleSearchCond.create("spring", AUTHOR));
+
+        //then
+        assertThat(candidates)
+                .as("색인 미사용")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정 및 삭제 반영")
+    void index_update_remove() {
+        //when
+        index.index(1L, "수정된 제목", "수정된 내용");
+        index.remove(2L);
+
+        //then
+        assertThat(index.findCandidates(ArticleSearchCond.create("spring", TITLE)))
+                .as("수정 전 제목")
+                .contains(Set.of());
+
+        assertThat(index.findCandidates(ArticleSearchCond.create("수정", TITLE)))
+                .as("수정 후 제목")
+                .contains(Set.of(1L));
+
+        assertThat(index.findCandidates(ArticleSearchCond.create("게시판", CONTENT)))
+                .as("삭제된 게시글")
+                .contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("적재 전에는 색인 사용 안 함")
+    void findCandidates_notReady() {
+        //given
+        ArticleTextIndex notReady = new ArticleTextIndex(1000);
+        notReady.index(1L, "title", "content");
+
+        //when
+        Optional<Set<Long>> candidates = notReady.findCandidates(ArticleSearchCond.create("title", TITLE));
+
+        //then
+        assertThat(candidates)
+                .as("색인 미사용")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("연산자 검색: AND는 교집합, OR은 합집합")
+    void findCandidates_boolean() {
+        //when
+        Optional<Set<Long>> and = index.findCandidates(ArticleSearchCond.create("spring AND jpa", TITLE_AND_CONTENT));
+        Optional<Set<Long>> or = index.findCandidates(ArticleSearchCond.create("querydsl OR 정리", TITLE));
+
+        //then
+        assertThat(and)
+                .as("두 단어 모두 포함")
+                .contains(Set.of(3L));
+
+        assertThat(or)
+                .as("둘 중 하나 포함")
+                .contains(Set.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("연산자 검색: 제외어는 DB에서 확인, 제외어만 있으면 인덱스 사용 안 함")
+    void findCandidates_exclude() {
+        //when
+        Optional<Set<Long>> withTerm = index.findCandidates(ArticleSearchCond.create("spring -jpa", TITLE_AND_CONTENT));
+        Optional<Set<Long>> excludeOnly = index.findCandidates(ArticleSearchCond.create("-jpa", TITLE_AND_CONTENT));
+
+        //then
+        assertThat(withTerm)
+                .as("포함 단어 기준 후보")
+                .contains(Set.of(1L, 3L));
+
+        assertThat(excludeOnly).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 중 반영된 변경은 적재 데이터로 덮어쓰지 않음")
+    void load_afterLiveWrite() {
+        //given
+        ArticleTextIndex loading = new ArticleTextIndex(1000);
+        loading.index(1L, "new title", "content");
+        loading.remove(2L);
+
+        //when
+        loading.load(1L, "old title", "content");
+        loading.load(2L, "deleted title", "content");
+        loading.load(3L, "other title", "content");
+        loading.markReady();
+
+        //then
+        assertThat(loading.findCandidates(ArticleSearchCond.create("new", TITLE)))
+                .as("변경 후 제목")
+                .contains(Set.of(1L));
+
+        assertThat(loading.findCandidates(ArticleSearchCond.create("old", TITLE)))
+                .as("적재 시점 제목")
+                .contains(Set.of());
+
+        assertThat(loading.findCandidates(ArticleSearchCond.create("title", TITLE)))
+                .as("삭제된 게시글 제외")
+                .contains(Set.of(1L, 3L));
+    }
+}
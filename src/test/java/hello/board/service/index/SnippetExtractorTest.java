@@ -0,0 +1,67 @@
+package hello.board.service.index;
+
+import hello.board.dto.service.search.Snippet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnippetExtractorTest {
+
+    @Test
+    @DisplayName("첫 번째 일치 위치 강조: 대소문자 무시")
+    void extract_match() {
+        //when
+        Snippet snippet = SnippetExtractor.extract("Spring Boot와 spring data", "SPRING");
+
+        //then
+        assertThat(snippet.getBefore()).isEmpty();
+        assertThat(snippet.getMatch()).isEqualTo("Spring");
+        assertThat(snippet.getAfter()).isEqualTo(" Boot와 spring data");
+    }
+
+    @Test
+    @DisplayName("긴 문장은 일치 위치 주변만 자름")
+    void extract_window() {
+        //given
+        final String text = "a".repeat(100) + "keyword" + "b".repeat(100);
+
+        //when
+        Snippet snippet = SnippetExtractor.extract(text, "keyword");
+
+        //then
+        assertThat(snippet.getBefore())
+                .as("앞부분")
+                .isEqualTo("..." + "a".repeat(40));
+
+        assertThat(snippet.getMatch()).isEqualTo("keyword");
+
+        assertThat(snippet.getAfter())
+                .as("뒷부분")
+                .isEqualTo("b".repeat(40) + "...");
+    }
+
+    @Test
+    @DisplayName("일치 없음: 앞부분만")
+    void extract_noMatch() {
+        //when
+        Snippet snippet = SnippetExtractor.extract("c".repeat(100), "keyword");
+
+        //then
+        assertThat(snippet.hasMatch())
+                .as("강조 없음")
+                .isFalse();
+
+        assertThat(snippet.getBefore()).isEqualTo("c".repeat(80) + "...");
+    }
+
+    @Test
+    @DisplayName("내용 없음: null")
+    void extract_empty() {
+        //when
+        Snippet snippet = SnippetExtractor.extract(null, "keyword");
+
+        //then
+        assertThat(snippet).isNull();
+    }
+}
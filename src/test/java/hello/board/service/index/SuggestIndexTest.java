@@ -0,0 +1,81 @@
+package hello.board.service.index;
+
+import hello.board.dto.service.search.Suggestions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestIndexTest {
+
+    SuggestIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        index = new SuggestIndex();
+        index.putTitle(1L, "Spring Boot 입문");
+        index.putTitle(2L, "JPA와 Spring Data");
+        index.putTitle(3L, "Querydsl 정리");
+        index.putName(1L, "Kim");
+        index.putName(2L, "Kimberly");
+        index.putName(3L, "Lee");
+    }
+
+    @Test
+    @DisplayName("제목의 각 단어 시작과 작성자 이름 앞부분으로 자동완성, 대소문자 무시")
+    void suggest() {
+        //when
+        Suggestions spring = index.suggest("SPR", 10);
+        Suggestions kim = index.suggest("kim", 10);
+
+        //then
+        assertThat(spring.getTitles())
+                .as("제목 중간 단어도 일치")
+                .containsExactlyInAnyOrder("Spring Boot 입문", "JPA와 Spring Data");
+
+        assertThat(kim.getAuthors())
+                .as("작성자 이름")
+                .containsExactly("Kim", "Kimberly");
+    }
+
+    @Test
+    @DisplayName("제목, 이름 변경 시 이전 값으로는 자동완성 안 됨")
+    void suggest_updated() {
+        //when
+        index.putTitle(3L, "QueryDSL 5 마이그레이션");
+        index.removeTitle(1L);
+        index.putName(3L, "Park");
+
+        //then
+        assertThat(index.suggest("정리", 10).getTitles())
+                .as("이전 제목")
+                .isEmpty();
+
+        assertThat(index.suggest("query", 10).getTitles())
+                .as("새 제목")
+                .containsExactly("QueryDSL 5 마이그레이션");
+
+        assertThat(index.suggest("boot", 10).getTitles())
+                .as("삭제된 글")
+                .isEmpty();
+
+        assertThat(index.suggest("lee", 10).getAuthors())
+                .as("이전 이름")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("개수 제한과 빈 입력")
+    void suggest_limit() {
+        //when
+        Suggestions limited = index.suggest("k", 1);
+        Suggestions blank = index.suggest("  ", 10);
+
+        //then
+        assertThat(limited.getAuthors()).hasSize(1);
+
+        assertThat(blank.getTitles()).isEmpty();
+        assertThat(blank.getAuthors()).isEmpty();
+    }
+}
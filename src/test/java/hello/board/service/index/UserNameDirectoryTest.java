@@ -0,0 +1,139 @@
+package hello.board.service.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserNameDirectoryTest {
+
+    UserNameDirectory directory;
+
+    @BeforeEach
+    void beforeEach() {
+        directory = new UserNameDirectory(2);
+        directory.put(1L, "Kim");
+        directory.put(2L, "김철수");
+        directory.put(3L, "Kimberly");
+        directory.markReady();
+    }
+
+    @Test
+    @DisplayName("이름 검색: 대소문자 무시")
+    void findIds() {
+        //when
+        Optional<Set<Long>> ids = directory.findIds("KIM");
+
+        //then
+        assertThat(ids)
+                .as("사용자 ID")
+                .contains(Set.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("이름 검색: 한글")
+    void findIds_hangul() {
+        //when
+        Optional<Set<Long>> ids = directory.findIds("철수");
+
+        //then
+        assertThat(ids)
+                .as("사용자 ID")
+                .contains(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("후보가 너무 많으면 디렉터리 사용 안 함")
+    void findIds_tooManyCandidates() {
+        //given
+        directory.put(4L, "kimchi");
+
+        //when
+        Optional<Set<Long>> ids = directory.findIds("kim");
+
+        //then
+        assertThat(ids)
+                .as("디렉터리 미사용")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 변경 반영")
+    void put_rename() {
+        //when
+        directory.put(1L, "Lee");
+
+        //then
+        assertThat(directory.findIds("kim"))
+                .as("변경 전 이름")
+                .contains(Set.of(3L));
+
+        assertThat(directory.findIds("lee"))
+                .as("변경 후 이름")
+                .contains(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 디렉터리 사용 안 함")
+    void findIds_notReady() {
+        //given
+        UserNameDirectory notReady = new UserNameDirectory(1000);
+        notReady.put(1L, "kim");
+
+        //when
+        Optional<Set<Long>> ids = notReady.findIds("kim");
+
+        //then
+        assertThat(ids)
+                .as("디렉터리 미사용")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 중 변경된 이름은 적재 데이터로 덮어쓰지 않음")
+    void load_afterLiveWrite() {
+        //given
+        UserNameDirectory loading = new UserNameDirectory(1000);
+        loading.put(1L, "Lee");
+
+        //when
+        loading.load(1L, "Kim");
+        loading.load(2L, "Kimberly");
+        loading.markReady();
+
+        //then
+        assertThat(loading.findIds("kim"))
+                .as("적재 시점 이름")
+                .contains(Set.of(2L));
+
+        assertThat(loading.findIds("lee"))
+                .as("변경 후 이름")
+                .contains(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("이름 검색: 부분 문자열, 한 글자")
+    void findIds_substring() {
+        //when
+        Optional<Set<Long>> middle = directory.findIds("berl");
+        Optional<Set<Long>> single = directory.findIds("수");
+        Optional<Set<Long>> none = directory.findIds("park");
+
+        //then
+        assertThat(middle)
+                .as("중간 일치")
+                .contains(Set.of(3L));
+
+        assertThat(single)
+                .as("한 글자")
+                .contains(Set.of(2L));
+
+        assertThat(none)
+                .as("일치 없음")
+                .contains(Set.of());
+    }
+}
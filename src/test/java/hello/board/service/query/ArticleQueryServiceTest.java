@@ -3,12 +3,24 @@ package hello.board.service.query;
 import hello.board.domain.Article;
 import hello.board.domain.Comment;
 import hello.board.domain.User;
+import hello.board.dto.service.search.ArticleListDto;
 import hello.board.dto.service.search.ArticleSearchCond;
-import hello.board.dto.service.search.ArticleSearchDto;
+import hello.board.dto.service.search.Snippet;
 import hello.board.exception.FailToFindEntityException;
+import hello.board.exception.WrongPageRequestException;
 import hello.board.repository.ArticleRepository;
 import hello.board.repository.CommentRepository;
 import hello.board.repository.UserRepository;
+import hello.board.service.cache.ArticleListCache;
+import hello.board.service.cache.ArticleSearchCache;
+import hello.board.service.cache.PageTotalCache;
+import hello.board.service.counter.BoardCounter;
+import hello.board.service.index.ArticleTextIndex;
+import hello.board.service.index.SuggestIndex;
+import hello.board.service.index.UserNameDirectory;
+import hello.board.service.ranking.TrendingRanking;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +30,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static hello.board.dto.service.search.ArticleSearchType.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,14 +57,87 @@ class ArticleQueryServiceTest {
     
     @Autowired
     CommentRepository commentRepository;
+
+    @Autowired
+    CountQueryExecutor countQueryExecutor;
+
+    @Autowired
+    TrendingRanking trendingRanking;
+
+    @Autowired
+    EntityManager em;
     
 
     @TestConfiguration
     static class Config {
         @Bean
-        ArticleQueryService articleQueryService(ArticleRepository articleRepository) {
-            return new ArticleQueryService(articleRepository);
+        ArticleTextIndex articleTextIndex() {
+            return new ArticleTextIndex(1000);
+        }
+
+        @Bean
+        BoardCounter boardCounter() {
+            return new BoardCounter();
+        }
+
+        @Bean
+        UserNameDirectory userNameDirectory() {
+            return new UserNameDirectory(1000);
+        }
+
+        @Bean
+        ArticleListCache articleListCache() {
+            return new ArticleListCache(0, Duration.ZERO, 0, new SimpleMeterRegistry());
         }
+
+        @Bean
+        ArticleSearchCache articleSearchCache() {
+            return new ArticleSearchCache(0, Duration.ZERO, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        CountQueryExecutor countQueryExecutor(PlatformTransactionManager transactionManager) {
+            return new CountQueryExecutor(0, 0, Duration.ofSeconds(1), transactionManager, new SimpleMeterRegistry(), task -> task);
+        }
+
+        @Bean
+        PageTotalCache pageTotalCache() {
+            return new PageTotalCache(0, Duration.ZERO, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        TrendingRanking trendingRanking() {
+            return new TrendingRanking(1000, Duration.ZERO);
+        }
+
+        @Bean
+        SuggestIndex suggestIndex() {
+            return new SuggestIndex();
+        }
+
+        @Bean
+        ArticleQueryService articleQueryService(ArticleRepository articleRepository, ArticleTextIndex articleTextIndex, UserNameDirectory userNameDirectory, BoardCounter boardCounter, ArticleListCache articleListCache, ArticleSearchCache articleSearchCache, CountQueryExecutor countQueryExecutor, PageTotalCache pageTotalCache, TrendingRanking trendingRanking, SuggestIndex suggestIndex) {
+            return new ArticleQueryService(articleRepository, articleTextIndex, userNameDirectory, boardCounter, articleListCache, articleSearchCache, countQueryExecutor, pageTotalCache, trendingRanking, suggestIndex);
+        }
+    }
+
+    private static ArticleListCache noCache() {
+        return new ArticleListCache(0, Duration.ZERO, 0, new SimpleMeterRegistry());
+    }
+
+    private static ArticleSearchCache noSearchCache() {
+        return new ArticleSearchCache(0, Duration.ZERO, new SimpleMeterRegistry());
+    }
+
+    private static PageTotalCache noTotalCache() {
+        return new PageTotalCache(0, Duration.ZERO, new SimpleMeterRegistry());
+    }
+
+    private void setCreatedAt(Article article, LocalDate date) {
+        em.createNativeQuery("update article set created_at = ? where article_id = ?")
+                .setParameter(1, date.atTime(12, 0))
+                .setParameter(2, article.getId())
+                .executeUpdate();
     }
 
     private User createAndSaveUser(String name, String email, String password) {
@@ -57,6 +146,12 @@ class ArticleQueryServiceTest {
         return user;
     }
 
+    private static List<Long> idsOf(List<Article> articles) {
+        return articles.stream()
+                .map(Article::getId)
+                .toList();
+    }
+
     private static List<Article> generateArticles(int numOfArticles, User... authors) {
         List<Article> articles = new ArrayList<>();
         for (int i = 0; i < numOfArticles; i++) {
@@ -235,31 +330,31 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 없음 - 게시글 없음")
-    void search_noArticle() {
+    void searchList_noArticle() {
         //given
         final Pageable pageable = PageRequest.of(0, 10);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(0);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(0L);
 
-        assertThat(articleSearchDtos.isEmpty())
+        assertThat(articleListDtos.isEmpty())
                 .as("결과 없음")
                 .isTrue();
     }
 
     @Test
     @DisplayName("검색 조건 없음 - 첫 페이지")
-    void search_firstPage() {
+    void searchList_firstPage() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -274,27 +369,27 @@ class ArticleQueryServiceTest {
         final Pageable pageable = PageRequest.of(0, 10);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(50L);
 
         final List<Article> inPage = articles.subList(40, 50);
         Collections.reverse(inPage);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactlyElementsOf(inPage);
+                .containsExactlyElementsOf(idsOf(inPage));
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(3L, 2L, 0L, 34L, 18L, 7L, 16L, 3L, 2L, 0L);
@@ -302,7 +397,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 없음 - 중간 페이지")
-    void search_middlePage() {
+    void searchList_middlePage() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -317,27 +412,27 @@ class ArticleQueryServiceTest {
         final Pageable pageable = PageRequest.of(2, 10);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(50L);
 
         final List<Article> inPage = articles.subList(20, 30);
         Collections.reverse(inPage);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactlyElementsOf(inPage);
+                .containsExactlyElementsOf(idsOf(inPage));
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(16L, 3L, 2L, 0L, 34L, 18L, 7L, 16L, 3L, 2L);
@@ -345,7 +440,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 없음 - 마지막 페이지")
-    void search_endPage() {
+    void searchList_endPage() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -360,27 +455,27 @@ class ArticleQueryServiceTest {
         final Pageable pageable = PageRequest.of(5, 10);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(6);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(57L);
 
         final List<Article> inPage = articles.subList(0, 7);
         Collections.reverse(inPage);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactlyElementsOf(inPage);
+                .containsExactlyElementsOf(idsOf(inPage));
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(2L, 0L, 34L, 18L, 7L, 16L, 3L);
@@ -388,7 +483,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 없음 - 결과 없음")
-    void search_resultEmpty() {
+    void searchList_resultEmpty() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -402,26 +497,15 @@ class ArticleQueryServiceTest {
 
         final Pageable pageable = PageRequest.of(666, 10);
 
-        //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(pageable);
-
-        //then
-        assertThat(articleSearchDtos.getTotalPages())
-                .as("전체 페이지 수")
-                .isEqualTo(5);
-
-        assertThat(articleSearchDtos.getTotalElements())
-                .as("전체 게시글 수")
-                .isEqualTo(50L);
-
-        assertThat(articleSearchDtos.isEmpty())
-                .as("페이지 내 게시글 없음")
-                .isTrue();
+        //when & then
+        assertThatThrownBy(() -> articleQueryService.searchList(pageable))
+                .as("마지막 페이지 이후")
+                .isInstanceOf(WrongPageRequestException.class);
     }
 
     @Test
     @DisplayName("검색 조건 - 제목 및 내용: 빈 조건 1")
-    void search_cond_titleAndContent_empty_1() {
+    void searchList_cond_titleAndContent_empty_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -464,24 +548,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create("", TITLE_AND_CONTENT);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article16, article15, article14, article13);
+                .containsExactly(article16.getId(), article15.getId(), article14.getId(), article13.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(1L, 1L, 0L, 0L);
@@ -489,7 +573,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 제목 및 내용: 빈 조건 2")
-    void search_cond_titleAndContent_empty_2() {
+    void searchList_cond_titleAndContent_empty_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -532,24 +616,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create("             ", TITLE_AND_CONTENT);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article16, article15, article14, article13);
+                .containsExactly(article16.getId(), article15.getId(), article14.getId(), article13.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(1L, 1L, 0L, 0L);
@@ -558,7 +642,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 제목 및 내용")
-    void search_cond_titleAndContent() {
+    void searchList_cond_titleAndContent() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -601,24 +685,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create(" TARGET  ", TITLE_AND_CONTENT);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(3);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(10L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article10, article8, article5, article3);
+                .containsExactly(article10.getId(), article8.getId(), article5.getId(), article3.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(1L, 0L, 2L, 1L);
@@ -626,7 +710,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 제목: 빈 조건 1")
-    void search_cond_title_empty_1() {
+    void searchList_cond_title_empty_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -669,24 +753,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create("", TITLE);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article16, article15, article14, article13);
+                .containsExactly(article16.getId(), article15.getId(), article14.getId(), article13.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(1L, 1L, 0L, 0L);
@@ -694,7 +778,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 제목: 빈 조건 2")
-    void search_cond_title_empty_2() {
+    void searchList_cond_title_empty_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -737,24 +821,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create("             ", TITLE);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article16, article15, article14, article13);
+                .containsExactly(article16.getId(), article15.getId(), article14.getId(), article13.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(1L, 1L, 0L, 0L);
@@ -763,7 +847,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 제목")
-    void search_cond_title() {
+    void searchList_cond_title() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -806,23 +890,23 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create("TARGET", TITLE);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(5L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article1);
+                .containsExactly(article1.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(0L);
@@ -830,7 +914,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 내용: 빈 조건 1")
-    void search_cond_content_empty_1() {
+    void searchList_cond_content_empty_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -873,24 +957,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create("", CONTENT);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article16, article15, article14, article13);
+                .containsExactly(article16.getId(), article15.getId(), article14.getId(), article13.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(1L, 1L, 0L, 0L);
@@ -898,7 +982,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 내용: 빈 조건 2")
-    void search_cond_content_empty_2() {
+    void searchList_cond_content_empty_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -941,24 +1025,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create("             ", CONTENT);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article16, article15, article14, article13);
+                .containsExactly(article16.getId(), article15.getId(), article14.getId(), article13.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(1L, 1L, 0L, 0L);
@@ -967,7 +1051,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 내용")
-    void search_cond_content() {
+    void searchList_cond_content() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1010,24 +1094,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create(" TARGET  ", CONTENT);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(5L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article2);
+                .containsExactly(article2.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(0L);
@@ -1036,7 +1120,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 작성자: 빈 조건 1")
-    void search_cond_author_empty_1() {
+    void searchList_cond_author_empty_1() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1079,24 +1163,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create("", AUTHOR);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article16, article15, article14, article13);
+                .containsExactly(article16.getId(), article15.getId(), article14.getId(), article13.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(1L, 1L, 0L, 0L);
@@ -1104,7 +1188,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 작성자: 빈 조건 2")
-    void search_cond_author_empty_2() {
+    void searchList_cond_author_empty_2() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1147,24 +1231,24 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create("             ", AUTHOR);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(5);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(20L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article16, article15, article14, article13);
+                .containsExactly(article16.getId(), article15.getId(), article14.getId(), article13.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(1L, 1L, 0L, 0L);
@@ -1173,7 +1257,7 @@ class ArticleQueryServiceTest {
 
     @Test
     @DisplayName("검색 조건 - 작성자")
-    void search_cond_author() {
+    void searchList_cond_author() {
         //given
         User author1 = createAndSaveUser("author1", "author1@board.com", "");
         User author2 = createAndSaveUser("author2", "author2@board.com", "");
@@ -1216,26 +1300,265 @@ class ArticleQueryServiceTest {
         ArticleSearchCond cond = ArticleSearchCond.create(" thor1  ", AUTHOR);
 
         //when
-        Page<ArticleSearchDto> articleSearchDtos = articleQueryService.search(cond, pageable);
+        Page<ArticleListDto> articleListDtos = articleQueryService.searchList(cond, pageable);
 
 
         //then
-        assertThat(articleSearchDtos.getTotalPages())
+        assertThat(articleListDtos.getTotalPages())
                 .as("전체 페이지 수")
                 .isEqualTo(2);
 
-        assertThat(articleSearchDtos.getTotalElements())
+        assertThat(articleListDtos.getTotalElements())
                 .as("전체 게시글 수")
                 .isEqualTo(7L);
 
-        assertThat(articleSearchDtos.getContent())
-                .extracting("article")
+        assertThat(articleListDtos.getContent())
+                .extracting("id")
                 .as("게시물")
-                .containsExactly(article7, article4, article1);
+                .containsExactly(article7.getId(), article4.getId(), article1.getId());
 
-        assertThat(articleSearchDtos.getContent())
+        assertThat(articleListDtos.getContent())
                 .extracting("numComments")
                 .as("댓글 수")
                 .containsExactly(0L, 1L, 0L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("검색: 색인으로 후보 게시글 축소")
+    void searchList_textIndex() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        Article article1 = Article.create("게시판 검색", "내용", author);
+        Article article2 = Article.create("검색 게시판", "본문 게시판", author);
+        Article article3 = Article.create("제목", "게시판 내용", author);
+        articleRepository.saveAll(List.of(article1, article2, article3));
+
+        ArticleTextIndex index = new ArticleTextIndex(1000);
+        index.index(article1.getId(), article1.getTitle(), article1.getContent());
+        index.index(article2.getId(), article2.getTitle(), article2.getContent());
+        index.markReady();
+
+        ArticleQueryService service = new ArticleQueryService(articleRepository, index, new UserNameDirectory(1000), new BoardCounter(), noCache(), noSearchCache(), countQueryExecutor, noTotalCache(), trendingRanking, new SuggestIndex());
+
+        //when
+        Page<ArticleListDto> hits = service.searchList(ArticleSearchCond.create("게시판", TITLE_AND_CONTENT), PageRequest.of(0, 10));
+        Page<ArticleListDto> misses = service.searchList(ArticleSearchCond.create("없는말", TITLE), PageRequest.of(0, 10));
+
+        //then
+        assertThat(hits.getContent())
+                .extracting("id")
+                .as("색인된 게시글만 검색")
+                .containsExactly(article2.getId(), article1.getId());
+
+        assertThat(hits.getTotalElements())
+                .as("전체 게시글 수")
+                .isEqualTo(2L);
+
+        assertThat(misses.isEmpty())
+                .as("후보 없음")
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("검색: 조건 없으면 카운터의 전체 게시글 수 사용")
+    void searchList_counter() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+        articleRepository.saveAll(generateArticles(3, author));
+
+        BoardCounter counter = new BoardCounter();
+        counter.reset(42L, Map.of());
+
+        ArticleQueryService service = new ArticleQueryService(articleRepository, new ArticleTextIndex(1000), new UserNameDirectory(1000), counter, noCache(), noSearchCache(), countQueryExecutor, noTotalCache(), trendingRanking, new SuggestIndex());
+
+        //when
+        Page<ArticleListDto> result = service.searchList(PageRequest.of(0, 2));
+
+        //then
+        assertThat(result.getContent())
+                .as("게시글 수")
+                .hasSize(2);
+
+        assertThat(result.getTotalElements())
+                .as("카운터의 전체 게시글 수")
+                .isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("검색: 작성자 이름을 사용자 ID로 변환")
+    void searchList_authorDirectory() {
+        //given
+        User author1 = createAndSaveUser("writer", "writer@board.com", "");
+        User author2 = createAndSaveUser("reader", "reader@board.com", "");
+        User author3 = createAndSaveUser("ghostwriter", "ghost@board.com", "");
+
+        List<Article> articles = generateArticles(6, author1, author2, author3);
+        articleRepository.saveAll(articles);
+
+        UserNameDirectory directory = new UserNameDirectory(1000);
+        directory.put(author1.getId(), author1.getName());
+        directory.put(author2.getId(), author2.getName());
+        directory.markReady();
+
+        ArticleQueryService service = new ArticleQueryService(articleRepository, new ArticleTextIndex(1000), directory, new BoardCounter(), noCache(), noSearchCache(), countQueryExecutor, noTotalCache(), trendingRanking, new SuggestIndex());
+
+        //when
+        Page<ArticleListDto> hits = service.searchList(ArticleSearchCond.create("WRITER", AUTHOR), PageRequest.of(0, 10));
+        Page<ArticleListDto> misses = service.searchList(ArticleSearchCond.create("nobody", AUTHOR), PageRequest.of(0, 10));
+
+        //then
+        assertThat(hits.getContent())
+                .extracting("id")
+                .as("디렉터리에 등록된 작성자의 게시글만 검색")
+                .containsExactly(articles.get(3).getId(), articles.get(0).getId());
+
+        assertThat(hits.getTotalElements())
+                .as("전체 게시글 수")
+                .isEqualTo(2L);
+
+        assertThat(misses.isEmpty())
+                .as("일치하는 작성자 없음")
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("내용 검색 결과에 발췌 기반 스니펫")
+    void searchList_snippet() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        Article article = Article.create("title", "x".repeat(100) + "Keyword" + "y".repeat(300), author);
+        articleRepository.save(article);
+
+        //when
+        Page<ArticleListDto> result = articleQueryService.searchList(ArticleSearchCond.create("keyword", CONTENT), PageRequest.of(0, 10));
+
+        //then
+        Snippet snippet = result.getContent().get(0).getSnippet();
+
+        assertThat(snippet.getMatch())
+                .as("강조 부분")
+                .isEqualTo("Keyword");
+
+        assertThat(snippet.getAfter())
+                .as("발췌 범위 안에서만 자름")
+                .isEqualTo("y".repeat(40) + "...");
+    }
+
+    @Test
+    @DisplayName("내용 검색 스니펫: 발췌 범위 밖의 일치는 강조 없이 발췌 앞부분")
+    void searchList_snippet_pastExcerpt() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        Article article = Article.create("title", "x".repeat(500) + "Keyword" + "y".repeat(10), author);
+        articleRepository.save(article);
+
+        //when
+        Page<ArticleListDto> result = articleQueryService.searchList(ArticleSearchCond.create("keyword", TITLE_AND_CONTENT), PageRequest.of(0, 10));
+
+        //then
+        ArticleListDto found = result.getContent().get(0);
+
+        assertThat(found.getSnippet().hasMatch())
+                .as("강조 없음")
+                .isFalse();
+
+        assertThat(found.getSnippet().getBefore())
+                .as("발췌 앞부분")
+                .isEqualTo("x".repeat(80) + "...");
+
+        assertThat(found.getExcerpt())
+                .as("발췌는 스니펫으로 대체")
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("검색 페이지 범위 검사: 마지막 페이지 이후는 조회 전 거절")
+    void searchList_pageOutOfRange() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        for (int i = 0; i < 3; i++) {
+            articleRepository.save(Article.create("spring " + i, "content", author));
+        }
+        articleRepository.save(Article.create("jpa", "content", author));
+
+        final ArticleSearchCond cond = ArticleSearchCond.create("spring", TITLE);
+
+        //when & then
+        assertThat(articleQueryService.searchList(cond, PageRequest.of(1, 2)).getContent())
+                .as("마지막 페이지")
+                .hasSize(1);
+
+        assertThatThrownBy(() -> articleQueryService.searchList(cond, PageRequest.of(2, 2)))
+                .as("범위 밖 페이지")
+                .isInstanceOf(WrongPageRequestException.class);
+
+        assertThatThrownBy(() -> articleQueryService.searchList(ArticleSearchCond.empty(), PageRequest.of(2, 2)))
+                .as("조건 없음: 전체 4개")
+                .isInstanceOf(WrongPageRequestException.class);
+
+        assertThatThrownBy(() -> articleQueryService.searchList(ArticleSearchCond.create("nothing", TITLE), PageRequest.of(1, 2)))
+                .as("일치 없음")
+                .isInstanceOf(WrongPageRequestException.class);
+    }
+
+    @Test
+    @DisplayName("기간 검색: 작성일 범위를 id 범위로 바꿔 키워드 검색과 결합")
+    void searchList_dateRange() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+
+        List<Article> articles = List.of(
+                Article.create("spring 1", "content", author),
+                Article.create("spring 2", "content", author),
+                Article.create("jpa", "content", author),
+                Article.create("spring 3", "content", author)
+        );
+        articleRepository.saveAll(articles);
+
+        setCreatedAt(articles.get(0), LocalDate.of(2024, 1, 10));
+        setCreatedAt(articles.get(1), LocalDate.of(2024, 2, 10));
+        setCreatedAt(articles.get(2), LocalDate.of(2024, 2, 20));
+        setCreatedAt(articles.get(3), LocalDate.of(2024, 3, 10));
+        em.clear();
+
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        //when
+        Page<ArticleListDto> keywordInRange = articleQueryService.searchList(
+                ArticleSearchCond.create("spring", TITLE, null, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 10)), pageable);
+        Page<ArticleListDto> rangeOnly = articleQueryService.searchList(
+                ArticleSearchCond.create("", TITLE, null, LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 20)), pageable);
+        Page<ArticleListDto> fromOnly = articleQueryService.searchList(
+                ArticleSearchCond.create("", TITLE, null, LocalDate.of(2024, 3, 1), null), pageable);
+        Page<ArticleListDto> noArticle = articleQueryService.searchList(
+                ArticleSearchCond.create("spring", TITLE, null, LocalDate.of(2024, 4, 1), null), pageable);
+
+        //then
+        assertThat(keywordInRange.getContent())
+                .extracting("id")
+                .as("범위 안의 키워드 일치, 종료일 포함")
+                .containsExactly(articles.get(3).getId(), articles.get(1).getId());
+
+        assertThat(keywordInRange.getTotalElements())
+                .as("범위 안의 전체 개수")
+                .isEqualTo(2L);
+
+        assertThat(rangeOnly.getContent())
+                .extracting("id")
+                .as("키워드 없이 기간만")
+                .containsExactly(articles.get(2).getId(), articles.get(1).getId());
+
+        assertThat(fromOnly.getContent())
+                .extracting("id")
+                .as("시작일만")
+                .containsExactly(articles.get(3).getId());
+
+        assertThat(noArticle.isEmpty())
+                .as("범위 안에 게시글 없음")
+                .isTrue();
+    }
+}
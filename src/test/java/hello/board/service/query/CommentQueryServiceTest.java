@@ -4,9 +4,13 @@ import hello.board.domain.Article;
 import hello.board.domain.Comment;
 import hello.board.domain.User;
 import hello.board.exception.FailToFindEntityException;
+import hello.board.exception.WrongPageRequestException;
 import hello.board.repository.ArticleRepository;
 import hello.board.repository.CommentRepository;
 import hello.board.repository.UserRepository;
+import hello.board.service.cache.PageTotalCache;
+import hello.board.service.counter.BoardCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,11 +19,14 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
@@ -41,8 +48,23 @@ class CommentQueryServiceTest {
     static class Config {
 
         @Bean
-        CommentQueryService commentQueryService(ArticleRepository articleRepository, CommentRepository commentRepository) {
-            return new CommentQueryService(articleRepository, commentRepository);
+        BoardCounter boardCounter() {
+            return new BoardCounter();
+        }
+
+        @Bean
+        CountQueryExecutor countQueryExecutor(PlatformTransactionManager transactionManager) {
+            return new CountQueryExecutor(0, 0, Duration.ofSeconds(1), transactionManager, new SimpleMeterRegistry(), task -> task);
+        }
+
+        @Bean
+        PageTotalCache pageTotalCache() {
+            return new PageTotalCache(0, Duration.ZERO, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        CommentQueryService commentQueryService(ArticleRepository articleRepository, CommentRepository commentRepository, BoardCounter boardCounter, CountQueryExecutor countQueryExecutor, PageTotalCache pageTotalCache) {
+            return new CommentQueryService(articleRepository, commentRepository, boardCounter, countQueryExecutor, pageTotalCache);
         }
     }
     
@@ -468,4 +490,34 @@ class CommentQueryServiceTest {
                 .as("존재하지 않는 게시글 ID")
                 .isInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("댓글 페이지 범위 검사: 마지막 페이지 이후는 조회 전 거절")
+    void checkPageRange() {
+        //given
+        User author = createAndSaveUser("author", "author@board.com", "");
+        Article article = createAndSaveArticle("title", "content", author);
+
+        for (int i = 0; i < 4; i++) {
+            commentRepository.save(Comment.create("comment" + i, article, author));
+        }
+
+        //when & then
+        assertThatCode(() -> commentQueryService.checkPageRange(article.getId(), PageRequest.of(1, 2)))
+                .as("마지막 페이지")
+                .doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> commentQueryService.checkPageRange(article.getId(), PageRequest.of(2, 2)))
+                .as("범위 밖 페이지")
+                .isInstanceOf(WrongPageRequestException.class);
+    }
+
+    @Test
+    @DisplayName("댓글 페이지 범위 검사: 존재하지 않는 게시글")
+    void checkPageRange_noArticle() {
+        //when & then
+        assertThatThrownBy(() -> commentQueryService.checkPageRange(Long.MAX_VALUE, PageRequest.of(1, 2)))
+                .as("존재하지 않는 게시글 ID")
+                .isInstanceOf(FailToFindEntityException.class);
+    }
+}
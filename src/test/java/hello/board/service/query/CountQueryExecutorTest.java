@@ -0,0 +1,195 @@
+package hello.board.service.query;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CountQueryExecutorTest {
+
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    CountQueryExecutor executor;
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("카운트 쿼리는 전체 수를 요청할 때 별도 스레드의 읽기 전용 트랜잭션에서 실행")
+    void submit_background() {
+        //given
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        executor = new CountQueryExecutor(2, 8, Duration.ofSeconds(1), transactionManager, new SimpleMeterRegistry(), task -> task);
+
+        final AtomicReference<Thread> countThread = new AtomicReference<>();
+
+        //when
+        LongSupplier total = executor.submit(() -> {
+            countThread.set(Thread.currentThread());
+            return 42L;
+        });
+
+        //then
+        assertThat(countThread.get())
+                .as("결과 요청 전에는 실행하지 않음")
+                .isNull();
+
+        assertThat(total.getAsLong()).isEqualTo(42L);
+
+        assertThat(countThread.get())
+                .as("실행 스레드")
+                .isNotEqualTo(Thread.currentThread());
+
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 호출 스레드에서 카운트")
+    void submit_timeout() throws InterruptedException {
+        //given
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        executor = new CountQueryExecutor(1, 8, Duration.ofMillis(50), transactionManager, new SimpleMeterRegistry(), task -> task);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<Thread> countThread = new AtomicReference<>();
+
+        LongSupplier blocking = executor.submit(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return 1L;
+        });
+        Thread blocked = new Thread(blocking::getAsLong);
+        blocked.start();
+        started.await(1, TimeUnit.SECONDS);
+
+        //when
+        LongSupplier total = executor.submit(() -> {
+            countThread.set(Thread.currentThread());
+            return 42L;
+        });
+
+        //then
+        try {
+            assertThat(total.getAsLong()).isEqualTo(42L);
+
+            assertThat(countThread.get())
+                    .as("작업 스레드를 기다리지 않고 호출 스레드에서 실행")
+                    .isEqualTo(Thread.currentThread());
+        } finally {
+            release.countDown();
+            blocked.join(TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+
+    @Test
+    @DisplayName("제출한 스레드의 상태를 작업 스레드로 전달")
+    void submit_decorated() {
+        //given
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+
+        final ThreadLocal<String> routing = new ThreadLocal<>();
+        TaskDecorator propagateRouting = task -> {
+            final String submitted = routing.get();
+            return () -> {
+                routing.set(submitted);
+                try {
+                    task.run();
+                } finally {
+                    routing.remove();
+                }
+            };
+        };
+        executor = new CountQueryExecutor(1, 8, Duration.ofSeconds(1), transactionManager, new SimpleMeterRegistry(), propagateRouting);
+
+        final AtomicReference<String> seen = new AtomicReference<>();
+        LongSupplier total = executor.submit(() -> {
+            seen.set(routing.get());
+            return 3L;
+        });
+
+        //when
+        routing.set("primary");
+        try {
+            total.getAsLong();
+        } finally {
+            routing.remove();
+        }
+
+        //then
+        assertThat(seen.get())
+                .as("작업 스레드에서 본 값")
+                .isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("카운트 쿼리 예외는 원래 예외로 전달")
+    void submit_exception() {
+        //given
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        executor = new CountQueryExecutor(1, 8, Duration.ofSeconds(1), transactionManager, new SimpleMeterRegistry(), task -> task);
+
+        //when
+        LongSupplier total = executor.submit(() -> {
+            throw new IllegalStateException("count failed");
+        });
+
+        //then
+        assertThatThrownBy(total::getAsLong)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("count failed");
+    }
+
+    @Test
+    @DisplayName("스레드 0개: 호출 스레드에서 필요할 때만 실행")
+    void submit_disabled() {
+        //given
+        executor = new CountQueryExecutor(0, 0, Duration.ofSeconds(1), transactionManager, new SimpleMeterRegistry(), task -> task);
+
+        final AtomicReference<Thread> countThread = new AtomicReference<>();
+
+        //when
+        LongSupplier total = executor.submit(() -> {
+            countThread.set(Thread.currentThread());
+            return 7L;
+        });
+
+        //then
+        assertThat(countThread.get())
+                .as("결과 요청 전에는 실행하지 않음")
+                .isNull();
+
+        assertThat(total.getAsLong()).isEqualTo(7L);
+
+        assertThat(countThread.get())
+                .as("실행 스레드")
+                .isEqualTo(Thread.currentThread());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package hello.board.service.ranking;
+
+import hello.board.dto.service.search.TrendingWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingRankingTest {
+
+    AtomicLong now = new AtomicLong();
+    TrendingRanking ranking = new TrendingRanking(1000, Duration.ZERO, now::get);
+
+    @Test
+    @DisplayName("댓글은 조회보다 높은 가중치")
+    void top_weight() {
+        //given
+        ranking.viewed(1L);
+        ranking.viewed(1L);
+        ranking.commented(2L);
+        ranking.viewed(3L);
+
+        //when
+        var top = ranking.top(TrendingWindow.DAY, 10);
+
+        //then
+        assertThat(top).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("오래된 활동은 짧은 기간에서 먼저 밀려남")
+    void top_decay() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            ranking.viewed(1L);
+        }
+
+        now.addAndGet(Duration.ofHours(6).toNanos());
+        ranking.viewed(2L);
+        ranking.viewed(2L);
+
+        //when
+        var hour = ranking.top(TrendingWindow.HOUR, 10);
+        var week = ranking.top(TrendingWindow.WEEK, 10);
+
+        //then
+        assertThat(hour).containsExactly(2L, 1L);
+        assertThat(week).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 글은 순위에서 제외")
+    void remove() {
+        //given
+        ranking.commented(1L);
+        ranking.viewed(2L);
+        ranking.top(TrendingWindow.DAY, 10);
+
+        //when
+        ranking.remove(1L);
+
+        //then
+        assertThat(ranking.top(TrendingWindow.DAY, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("요청 크기와 최대 크기 제한")
+    void top_size() {
+        //given
+        for (long id = 1; id <= TrendingRanking.MAX_SIZE + 10; id++) {
+            ranking.viewed(id);
+        }
+
+        //when
+        //then
+        assertThat(ranking.top(TrendingWindow.DAY, 5)).hasSize(5);
+        assertThat(ranking.top(TrendingWindow.DAY, 1000)).hasSize(TrendingRanking.MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("갱신 주기 안에서는 이전 스냅샷 사용")
+    void top_snapshot() {
+        //given
+        TrendingRanking cached = new TrendingRanking(1000, Duration.ofSeconds(5), now::get);
+        cached.viewed(1L);
+        cached.top(TrendingWindow.DAY, 10);
+
+        //when
+        cached.commented(2L);
+
+        //then
+        assertThat(cached.top(TrendingWindow.DAY, 10))
+                .as("갱신 전")
+                .containsExactly(1L);
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        assertThat(cached.top(TrendingWindow.DAY, 10))
+                .as("갱신 후")
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("정리: 최대 추적 개수 초과분은 낮은 점수부터 제거")
+    void prune() {
+        //given
+        TrendingRanking bounded = new TrendingRanking(2, Duration.ZERO, now::get);
+        bounded.commented(1L);
+        bounded.viewed(2L);
+        bounded.viewed(2L);
+        bounded.viewed(3L);
+
+        //when
+        bounded.prune();
+
+        //then
+        assertThat(bounded.top(TrendingWindow.DAY, 10)).containsExactly(1L, 2L);
+    }
+}
@@ -6,9 +6,12 @@ import hello.board.domain.Article;
 import hello.board.domain.User;
 import hello.board.dto.api.ArticleApiDto.SaveRequest;
 import hello.board.dto.api.ArticleApiDto.UpdateRequest;
+import hello.board.dto.service.ArticleServiceDto.LookUp;
+import hello.board.dto.service.ArticleExportDto;
+import hello.board.dto.service.search.ArticleListDto;
 import hello.board.dto.service.search.ArticleSearchCond;
-import hello.board.dto.service.search.ArticleSearchDto;
 import hello.board.dto.service.search.ArticleSearchType;
+import hello.board.dto.service.search.Suggestions;
 import hello.board.exception.FailToFindEntityException;
 import hello.board.service.command.ArticleService;
 import hello.board.service.query.ArticleQueryService;
@@ -31,25 +34,36 @@ import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static hello.board.dto.api.ArticleApiDto.MAX_PAGE_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -308,9 +322,9 @@ class ArticleApiControllerTest {
     void getArticles_default() throws Exception {
         //given
         final PageRequest pageable = PageRequest.of(0, 10);
-        final Page<ArticleSearchDto> page = Page.empty(pageable);
+        final Page<ArticleListDto> page = Page.empty(pageable);
 
-        given(articleQueryService.search(any(ArticleSearchCond.class), any(Pageable.class)))
+        given(articleQueryService.searchList(any(ArticleSearchCond.class), any(Pageable.class)))
                 .willReturn(page);
 
         //when
@@ -331,9 +345,9 @@ class ArticleApiControllerTest {
     void getArticles_parameter() throws Exception {
         //given
         final PageRequest pageable = PageRequest.of(2, 20);
-        final Page<ArticleSearchDto> page = Page.empty(pageable);
+        final Page<ArticleListDto> page = Page.empty(pageable);
 
-        given(articleQueryService.search(any(ArticleSearchCond.class), any(Pageable.class)))
+        given(articleQueryService.searchList(any(ArticleSearchCond.class), any(Pageable.class)))
                 .willReturn(page);
 
         //when
@@ -373,10 +387,10 @@ class ArticleApiControllerTest {
     void getArticles_condition() throws Exception {
         //given
         final PageRequest pageable = PageRequest.of(0, 10);
-        final Page<ArticleSearchDto> page = Page.empty(pageable);
+        final Page<ArticleListDto> page = Page.empty(pageable);
         final ArticleSearchCond cond = ArticleSearchCond.create("title", ArticleSearchType.TITLE);
 
-        given(articleQueryService.search(eq(cond), any(Pageable.class)))
+        given(articleQueryService.searchList(eq(cond), any(Pageable.class)))
                 .willReturn(page);
 
         //when
@@ -423,16 +437,74 @@ class ArticleApiControllerTest {
                 .containsExactlyInAnyOrder("type");
     }
 
+    @Test
+    @DisplayName("GET | /api/articles?before | 성공")
+    void getArticlesBefore() throws Exception {
+        //given
+        final SliceImpl<ArticleListDto> slice = new SliceImpl<>(List.of(), PageRequest.ofSize(20), false);
+
+        given(articleQueryService.searchBefore(any(ArticleSearchCond.class), eq(100L), eq(20)))
+                .willReturn(slice);
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/api/articles")
+                        .contentType(APPLICATION_JSON)
+                        .param("before", "100")
+                        .param("size", "20")
+        );
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.pageable.pageSize").value(20));
+    }
+
+    @Test
+    @DisplayName("GET | /api/articles?before | 실패: before less than 1")
+    void getArticlesBefore_lessThanOne() throws Exception {
+        //given
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/api/articles")
+                        .contentType(APPLICATION_JSON)
+                        .param("before", "0")
+        );
+
+        //then
+        result.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET | /api/articles?before | 실패: size over max")
+    void getArticlesBefore_sizeOverMax() throws Exception {
+        //given
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/api/articles")
+                        .contentType(APPLICATION_JSON)
+                        .param("before", "100")
+                        .param("size", String.valueOf(MAX_PAGE_SIZE + 1))
+        );
+
+        //then
+        result.andExpect(status().isBadRequest());
+
+        verify(articleQueryService, never()).searchBefore(any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("GET | /api/articles/{id} | 성공")
     void getArticle() throws Exception {
         //given
         final Long id = 1L;
-        final Article findArticle = Article.create("title", "content", User.create("author", "", ""))
-                        .increaseView();
+        final Article findArticle = Article.create("title", "content", User.create("author", "", ""));
 
-        given(articleService.lookUp(eq(id)))
-                .willReturn(findArticle);
+        given(articleService.lookUp(eq(id), any()))
+                .willReturn(LookUp.of(findArticle, Page.empty(), 1L, 1L));
 
         //when
         ResultActions result = mockMvc.perform(
@@ -445,7 +517,8 @@ class ArticleApiControllerTest {
                 .andExpect(jsonPath("$.title").value("title"))
                 .andExpect(jsonPath("$.content").value("content"))
                 .andExpect(jsonPath("$.author").value("author"))
-                .andExpect(jsonPath("$.view").value(1L));
+                .andExpect(jsonPath("$.view").value(1L))
+                .andExpect(jsonPath("$.uniqueViewers").value(1L));
     }
 
     @Test
@@ -454,7 +527,7 @@ class ArticleApiControllerTest {
         //given
         final Long id = 666L;
 
-        given(articleService.lookUp(eq(id)))
+        given(articleService.lookUp(eq(id), any()))
                 .willThrow(FailToFindEntityException.class);
 
         //when
@@ -732,4 +805,85 @@ class ArticleApiControllerTest {
         result.andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.code").value("BAD"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET | /api/articles?slice=true | 성공")
+    void getArticleSlice() throws Exception {
+        //given
+        final PageRequest pageable = PageRequest.of(1, 20);
+        final SliceImpl<ArticleListDto> slice = new SliceImpl<>(List.of(), pageable, true);
+
+        given(articleQueryService.sliceList(any(ArticleSearchCond.class), eq(pageable)))
+                .willReturn(slice);
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/api/articles")
+                        .contentType(APPLICATION_JSON)
+                        .param("slice", "true")
+                        .param("page", "2")
+                        .param("size", "20")
+        );
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.pageable.offset").value(20));
+    }
+
+    @Test
+    @DisplayName("GET | /api/articles/export | 성공: 한 줄에 게시글 하나")
+    void exportArticles() throws Exception {
+        //given
+        final LocalDateTime createdAt = LocalDateTime.of(2023, 8, 1, 12, 0);
+
+        willAnswer(invocation -> {
+            Consumer<ArticleExportDto> sink = invocation.getArgument(0);
+            sink.accept(new ArticleExportDto(1L, "title1", "content1", "author", createdAt, 3L, 1L));
+            sink.accept(new ArticleExportDto(2L, "title2", "content2", "author", createdAt, 0L, 0L));
+            return null;
+        }).given(articleQueryService).exportAll(any());
+
+        //when
+        MvcResult started = mockMvc.perform(get("/api/articles/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions result = mockMvc.perform(asyncDispatch(started));
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+
+        String[] lines = started.getResponse().getContentAsString().split("\n");
+
+        assertThat(lines)
+                .as("줄 수")
+                .hasSize(2);
+
+        assertThat((Integer) JsonPath.read(lines[0], "$.id")).isEqualTo(1);
+        assertThat((String) JsonPath.read(lines[1], "$.title")).isEqualTo("title2");
+        assertThat((String) JsonPath.read(lines[1], "$.content")).isEqualTo("content2");
+    }
+
+    @Test
+    @DisplayName("GET | /api/articles/suggest | 성공")
+    void suggest() throws Exception {
+        //given
+        given(articleQueryService.suggest("spr", 5))
+                .willReturn(new Suggestions(List.of("Spring Boot"), List.of()));
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/api/articles/suggest")
+                        .param("q", "spr")
+        );
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.titles[0]").value("Spring Boot"))
+                .andExpect(jsonPath("$.authors").isEmpty());
+    }
+}
@@ -30,6 +30,8 @@ import org.springframework.context.annotation.*;
 import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -575,4 +577,29 @@ class CommentApiControllerTest {
         result.andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.code").value("BAD"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET | /api/articles/{articleId}/comments?slice=true | 성공")
+    void getCommentSlice() throws Exception {
+        //given
+        final long articleId = 1L;
+        final PageRequest pageable = PageRequest.of(0, 10);
+        final Slice<Comment> slice = new SliceImpl<>(List.of(), pageable, false);
+
+        given(commentQueryService.sliceByArticleId(eq(articleId), eq(pageable)))
+                .willReturn(slice);
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/api/articles/" + articleId + "/comments")
+                        .contentType(APPLICATION_JSON)
+                        .param("slice", "true")
+        );
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+}
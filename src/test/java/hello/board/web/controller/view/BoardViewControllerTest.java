@@ -5,14 +5,18 @@ import hello.board.domain.Article;
 import hello.board.domain.Comment;
 import hello.board.domain.User;
 import hello.board.domain.util.EntityReflectionUtils;
+import hello.board.dto.service.ArticleHeaderDto;
+import hello.board.dto.service.ArticleServiceDto.Header;
 import hello.board.dto.service.ArticleServiceDto.LookUp;
 import hello.board.dto.service.search.ArticleSearchCond;
-import hello.board.dto.service.search.ArticleSearchDto;
+import hello.board.dto.service.search.ArticleListDto;
 import hello.board.dto.view.ArticleResponse.ListView;
 import hello.board.dto.view.ArticleResponse.View;
 import hello.board.dto.view.ArticleResponse.Write;
 import hello.board.dto.view.CommentViewResponse;
 import hello.board.exception.FailToFindEntityException;
+import hello.board.exception.WrongPageRequestException;
+import hello.board.service.cache.ArticleFragmentCache;
 import hello.board.service.command.ArticleService;
 import hello.board.service.query.ArticleQueryService;
 import hello.board.service.query.CommentQueryService;
@@ -22,6 +26,8 @@ import hello.board.web.config.WebConfig;
 import hello.board.web.controller.mock.MockLoginArgumentResolver;
 import hello.board.web.dtoresolver.ArticleServiceDtoResolver;
 import hello.board.web.dtoresolver.CommentServiceDtoResolver;
+import hello.board.web.service.FragmentRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +46,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -48,12 +56,19 @@ import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -62,7 +77,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @EnableAspectJAutoProxy
 @MockBean(JpaMetamodelMappingContext.class)
-@Import({BoardViewController.class, BindingErrorsHandlingAspect.class, PageRequestValidationAspect.class})
+@Import({BoardViewController.class, BindingErrorsHandlingAspect.class, PageRequestValidationAspect.class, FragmentRenderer.class})
 @WebMvcTest(value = BoardViewController.class,
         excludeFilters = @Filter(type = ASSIGNABLE_TYPE, classes = WebConfig.class))
 class BoardViewControllerTest {
@@ -85,6 +100,9 @@ class BoardViewControllerTest {
     @MockBean
     CommentQueryService commentQueryService;
 
+    @Autowired
+    ArticleFragmentCache articleFragmentCache;
+
     @Value("${view.board.article-page-size}")
     private int ARTICLE_PAGE_SIZE;
 
@@ -109,6 +127,11 @@ class BoardViewControllerTest {
         public CommentServiceDtoResolver commentServiceDtoResolver() {
             return new CommentServiceDtoResolver();
         }
+
+        @Bean
+        public ArticleFragmentCache articleFragmentCache() {
+            return new ArticleFragmentCache(Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+        }
     }
 
     @BeforeEach
@@ -123,9 +146,9 @@ class BoardViewControllerTest {
         //given
         final Pageable pageable = PageRequest.of(0, ARTICLE_PAGE_SIZE);
         final ArticleSearchCond cond = ArticleSearchCond.empty();
-        final Page<ArticleSearchDto> articles = Page.empty(pageable);
+        final Page<ArticleListDto> articles = Page.empty(pageable);
 
-        given(articleQueryService.search(eq(cond), eq(pageable)))
+        given(articleQueryService.searchList(eq(cond), eq(pageable)))
                 .willReturn(articles);
 
         //when
@@ -150,10 +173,10 @@ class BoardViewControllerTest {
         //given
         final Pageable pageable = PageRequest.of(1, ARTICLE_PAGE_SIZE);
         final ArticleSearchCond cond = ArticleSearchCond.empty();
-        final var content = getArticleSearchDtos(getSimpleAuthor(), 20).subList(10, 20);
+        final var content = getArticleListDtos(getSimpleAuthor(), 20).subList(10, 20);
         final var articles = new PageImpl<>(content, pageable, 20);
 
-        given(articleQueryService.search(eq(cond), eq(pageable)))
+        given(articleQueryService.searchList(eq(cond), eq(pageable)))
                 .willReturn(articles);
 
         //when
@@ -177,10 +200,9 @@ class BoardViewControllerTest {
         return User.create("author", "author@board.com", "");
     }
 
-    private static List<ArticleSearchDto> getArticleSearchDtos(User author, int numArticles) {
+    private static List<ArticleListDto> getArticleListDtos(User author, int numArticles) {
         return IntStream.range(0, numArticles)
-                .mapToObj(i -> Article.create("title" + i, "content" + i, author))
-                .map(article -> new ArticleSearchDto(article, 0L))
+                .mapToObj(i -> new ArticleListDto((long) i, "title" + i, author.getName(), null, 0L, 0L))
                 .toList();
     }
 
@@ -190,9 +212,9 @@ class BoardViewControllerTest {
         //given
         final Pageable pageable = PageRequest.of(4444, ARTICLE_PAGE_SIZE);
         final ArticleSearchCond cond = ArticleSearchCond.empty();
-        final Page<ArticleSearchDto> page = new PageImpl<>(Collections.emptyList(), pageable, 10);
+        final Page<ArticleListDto> page = new PageImpl<>(Collections.emptyList(), pageable, 10);
 
-        given(articleQueryService.search(eq(cond), eq(pageable)))
+        given(articleQueryService.searchList(eq(cond), eq(pageable)))
                 .willReturn(page);
 
         //when
@@ -211,9 +233,9 @@ class BoardViewControllerTest {
         //given
         final Pageable pageable = PageRequest.of(0, ARTICLE_PAGE_SIZE);
         final ArticleSearchCond cond = ArticleSearchCond.empty();
-        final Page<ArticleSearchDto> articles = Page.empty(pageable);
+        final Page<ArticleListDto> articles = Page.empty(pageable);
 
-        given(articleQueryService.search(eq(cond), eq(pageable)))
+        given(articleQueryService.searchList(eq(cond), eq(pageable)))
                 .willReturn(articles);
 
         //when
@@ -253,7 +275,7 @@ class BoardViewControllerTest {
 
         final LookUp lookUp = LookUp.of(article, Page.empty(pageable));
 
-        given(articleService.lookUp(eq(id), eq(pageable)))
+        given(articleService.lookUp(eq(id), eq(pageable), any()))
                 .willReturn(lookUp);
 
         //when
@@ -267,7 +289,13 @@ class BoardViewControllerTest {
                 .andExpect(model().attributeExists("user"))
                 .andExpect(model().attributeExists("prevNumber"))
                 .andExpect(model().attributeExists("pageNumbers"))
-                .andExpect(model().attributeExists("nextNumber"));
+                .andExpect(model().attributeExists("nextNumber"))
+                .andExpect(model().attribute("articleBody", containsString("content")))
+                .andExpect(model().attributeExists("commentList"));
+
+        assertThat(result.andReturn().getRequest().getSession(false))
+                .as("조회만으로 세션을 만들지 않음")
+                .isNull();
     }
 
     @Test
@@ -283,7 +311,7 @@ class BoardViewControllerTest {
 
         final LookUp lookUp = LookUp.of(article, page);
 
-        given(articleService.lookUp(eq(id), eq(pageable)))
+        given(articleService.lookUp(eq(id), eq(pageable), any()))
                 .willReturn(lookUp);
 
         //when
@@ -301,6 +329,71 @@ class BoardViewControllerTest {
                 .andExpect(model().attributeExists("nextNumber"));
     }
 
+    @Test
+    @DisplayName("GET | /board/{id} | 게시글 조회 성공: 캐시된 조각이면 헤더만 조회")
+    void getArticle_cachedFragments() throws Exception {
+        //given
+        final Long id = 2L;
+        final Article article = Article.create("title", "content", getSimpleAuthor());
+        final Pageable pageable = PageRequest.of(0, COMMENT_PAGE_SIZE);
+
+        articleFragmentCache.invalidateArticle(id);
+
+        given(articleService.lookUp(eq(id), eq(pageable), any()))
+                .willReturn(LookUp.of(article, Page.empty(pageable)));
+
+        final Header header = Header.of(new ArticleHeaderDto(id, "title", "author", null, 0L, 0L), 2L, 1L);
+
+        given(articleService.lookUpHeader(eq(id), any()))
+                .willReturn(header);
+
+        mockMvc.perform(get("/board/" + id));
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/board/" + id)
+        );
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(view().name("article"))
+                .andExpect(model().attribute("article", View.of(header)))
+                .andExpect(model().attribute("articleBody", containsString("content")))
+                .andExpect(model().attributeExists("commentList"));
+
+        verify(articleService, times(1)).lookUp(eq(id), eq(pageable), any());
+        verify(articleService, times(1)).lookUpHeader(eq(id), any());
+    }
+
+    @Test
+    @DisplayName("GET | /board/{id} | 게시글 조회 성공: 변경 후에는 전체 조회")
+    void getArticle_invalidatedFragments() throws Exception {
+        //given
+        final Long id = 3L;
+        final Article article = Article.create("title", "content", getSimpleAuthor());
+        final Pageable pageable = PageRequest.of(0, COMMENT_PAGE_SIZE);
+
+        articleFragmentCache.invalidateArticle(id);
+
+        given(articleService.lookUp(eq(id), eq(pageable), any()))
+                .willReturn(LookUp.of(article, Page.empty(pageable)));
+
+        mockMvc.perform(get("/board/" + id));
+        articleFragmentCache.invalidateArticle(id);
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/board/" + id)
+        );
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(model().attribute("articleBody", containsString("content")));
+
+        verify(articleService, times(2)).lookUp(eq(id), eq(pageable), any());
+        verify(articleService, never()).lookUpHeader(eq(id), any());
+    }
+
     private static List<Comment> getComments(User author, Article article, int numComments) {
         return IntStream.range(0, numComments)
                 .mapToObj(i -> Comment.create("content" + i, article, author))
@@ -334,7 +427,7 @@ class BoardViewControllerTest {
         final Pageable pageable = PageRequest.of(4444, COMMENT_PAGE_SIZE);
         final Page<Comment> comments = new PageImpl<>(Collections.emptyList(), pageable, 10);
 
-        given(articleService.lookUp(eq(id), eq(pageable)))
+        given(articleService.lookUp(eq(id), eq(pageable), any()))
                 .willReturn(LookUp.of(article, comments));
 
         //when
@@ -470,4 +563,75 @@ class BoardViewControllerTest {
         //then
         result.andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET | /board?slice=true | 게시글 목록 조회 성공")
+    void getArticleSlice() throws Exception {
+        //given
+        final Pageable pageable = PageRequest.of(1, ARTICLE_PAGE_SIZE);
+        final ArticleSearchCond cond = ArticleSearchCond.empty();
+        final var content = getArticleListDtos(getSimpleAuthor(), 20).subList(10, 20);
+        final Slice<ArticleListDto> articles = new SliceImpl<>(content, pageable, true);
+
+        given(articleQueryService.sliceList(eq(cond), eq(pageable)))
+                .willReturn(articles);
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/board")
+                        .param("slice", "true")
+                        .param("page", "2")
+        );
+
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(view().name("articleList"))
+                .andExpect(model().attribute("articles", articles.map(ListView::from)))
+                .andExpect(model().attribute("slice", true))
+                .andExpect(model().attribute("prevNumber", 1))
+                .andExpect(model().attribute("pageNumbers", List.of(2)))
+                .andExpect(model().attribute("nextNumber", 3));
+    }
+
+    @Test
+    @DisplayName("GET | /board?slice=true | 게시글 목록 조회 실패: page - malicious request")
+    void getArticleSlice_malicious_page() throws Exception {
+        //given
+        final Pageable pageable = PageRequest.of(4444, ARTICLE_PAGE_SIZE);
+        final ArticleSearchCond cond = ArticleSearchCond.empty();
+        final Slice<ArticleListDto> articles = new SliceImpl<>(Collections.emptyList(), pageable, false);
+
+        given(articleQueryService.sliceList(eq(cond), eq(pageable)))
+                .willReturn(articles);
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/board")
+                        .param("slice", "true")
+                        .param("page", "4445")
+        );
+
+        //then
+        result.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET | /board | 게시글 목록 조회 실패: 범위 밖 페이지는 조회 전 거절")
+    void getArticles_pageOutOfRange() throws Exception {
+        //given
+        final Pageable pageable = PageRequest.of(99998, ARTICLE_PAGE_SIZE);
+        final ArticleSearchCond cond = ArticleSearchCond.empty();
+
+        given(articleQueryService.searchList(eq(cond), eq(pageable)))
+                .willThrow(WrongPageRequestException.of(99999, ARTICLE_PAGE_SIZE));
+
+        //when
+        ResultActions result = mockMvc.perform(
+                get("/board")
+                        .param("page", "99999")
+        );
+
+        //then
+        result.andExpect(status().isBadRequest());
+    }
+}